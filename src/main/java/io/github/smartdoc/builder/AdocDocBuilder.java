@@ -25,6 +25,7 @@ import io.github.smartdoc.factory.BuildTemplateFactory;
 import io.github.smartdoc.helper.JavaProjectBuilderHelper;
 import io.github.smartdoc.model.ApiConfig;
 import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.template.IDocBuildTemplate;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 
@@ -78,7 +79,27 @@ public class AdocDocBuilder {
 		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
-		List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+		// the dictionaries and error codes are shared by the documents of the build
+		DocBuildContext previous = DocBuildContext.bind(configBuilder.getBuildContext());
+		try {
+			List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+			buildApiDoc(apiDocList, config, javaProjectBuilder, docBuildTemplate);
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
+	}
+
+	/**
+	 * Render the AsciiDoc docs from the analyzed api data.
+	 * @param apiDocList list of api doc
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param docBuildTemplate doc build template used to analyze the api data
+	 */
+	public static void buildApiDoc(List<ApiDoc> apiDocList, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
 		if (config.isAllInOne()) {
 			String docName = builderTemplate.allInOneDocName(config, INDEX_DOC, DocGlobalConstants.ASCIIDOC_EXTENSION);
 			apiDocList = docBuildTemplate.handleApiGroup(apiDocList, config);
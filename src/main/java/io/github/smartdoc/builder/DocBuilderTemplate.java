@@ -29,6 +29,7 @@ import io.github.smartdoc.model.*;
 import io.github.smartdoc.template.IDocBuildTemplate;
 import io.github.smartdoc.utils.BeetlTemplateUtil;
 import io.github.smartdoc.utils.DocUtil;
+import io.github.smartdoc.utils.ParallelUtil;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.DateTimeUtil;
 import com.power.common.util.FileUtil;
@@ -75,11 +76,11 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 	 */
 	public void buildApiDoc(List<ApiDoc> apiDocList, ApiConfig config, String template, String fileExtension) {
 		FileUtil.mkdirs(config.getOutPath());
-		for (ApiDoc doc : apiDocList) {
+		ParallelUtil.forEach(apiDocList, config.getRenderThreads(), "render", doc -> {
 			Template mapper = this.buildApiDocTemplate(doc, config, template);
-			FileUtil.nioWriteFile(mapper.render(),
+			BeetlTemplateUtil.renderToFile(mapper,
 					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + doc.getName() + fileExtension);
-		}
+		});
 	}
 
 	/**
@@ -124,8 +125,25 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 	 */
 	public Template buildAllRenderDocTemplate(List<ApiDoc> apiDocList, ApiConfig config,
 			JavaProjectBuilder javaProjectBuilder, String template, ApiDoc apiDoc, String index) {
+		return this.buildAllRenderDocTemplate(apiDocList, config, template, apiDoc, index,
+				DocUtil.errorCodeDictToList(config, javaProjectBuilder),
+				DocUtil.buildDictionary(config, javaProjectBuilder));
+	}
+
+	/**
+	 * get render doc template with the error codes and dictionaries loaded before.
+	 * @param apiDocList list data of Api doc
+	 * @param config api config
+	 * @param template template
+	 * @param apiDoc apiDoc
+	 * @param index index html
+	 * @param errorCodeList error codes
+	 * @param apiDocDictList dictionaries
+	 * @return Template
+	 */
+	public Template buildAllRenderDocTemplate(List<ApiDoc> apiDocList, ApiConfig config, String template, ApiDoc apiDoc,
+			String index, List<ApiErrorCode> errorCodeList, List<ApiDocDict> apiDocDictList) {
 		String strTime = DateTimeUtil.long2Str(NOW, DateTimeUtil.DATE_FORMAT_SECOND);
-		List<ApiErrorCode> errorCodeList = DocUtil.errorCodeDictToList(config, javaProjectBuilder);
 		Template tpl = BeetlTemplateUtil.getByName(template);
 		String style = config.getStyle();
 		tpl.binding(TemplateVariable.STYLE.getVariable(), style);
@@ -146,7 +164,6 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 		this.setCssCDN(config, tpl);
 
 		this.setDirectoryLanguageVariable(config, tpl);
-		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
 		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 
 		boolean onlyHasDefaultGroup = apiDocList.stream()
@@ -198,10 +215,30 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 	 */
 	public void buildDoc(List<ApiDoc> apiDocList, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
 			String template, String outPutFileName, ApiDoc apiDoc, String index) {
+		this.buildDoc(apiDocList, config, template, outPutFileName, apiDoc, index,
+				DocUtil.errorCodeDictToList(config, javaProjectBuilder),
+				DocUtil.buildDictionary(config, javaProjectBuilder));
+	}
+
+	/**
+	 * Merge all api doc into one document with the error codes and dictionaries loaded
+	 * before, so that the documents rendered concurrently don't load them.
+	 * @param apiDocList list data of Api doc
+	 * @param config api config
+	 * @param template template
+	 * @param outPutFileName output file
+	 * @param apiDoc apiDoc
+	 * @param index index html
+	 * @param errorCodeList error codes
+	 * @param apiDocDictList dictionaries
+	 */
+	public void buildDoc(List<ApiDoc> apiDocList, ApiConfig config, String template, String outPutFileName,
+			ApiDoc apiDoc, String index, List<ApiErrorCode> errorCodeList, List<ApiDocDict> apiDocDictList) {
 		String outPath = config.getOutPath();
 		FileUtil.mkdirs(outPath);
-		Template tpl = this.buildAllRenderDocTemplate(apiDocList, config, javaProjectBuilder, template, apiDoc, index);
-		FileUtil.nioWriteFile(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		Template tpl = this.buildAllRenderDocTemplate(apiDocList, config, template, apiDoc, index, errorCodeList,
+				apiDocDictList);
+		BeetlTemplateUtil.renderToFile(tpl, outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
 	/**
@@ -298,7 +335,7 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 			}
 		}
 		tpl.binding(TemplateVariable.API_DOC_LIST.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(),
+		BeetlTemplateUtil.renderToFile(tpl,
 				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.SEARCH_JS_OUT);
 	}
 
@@ -337,7 +374,7 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 		errorTemplate.binding(TemplateVariable.BACKGROUND.getVariable(), HighlightStyle.getBackgroundColor(style));
 		errorTemplate.binding(TemplateVariable.ERROR_CODE_LIST.getVariable(), errorCodeList);
 		setDirectoryLanguageVariable(config, errorTemplate);
-		FileUtil.nioWriteFile(errorTemplate.render(),
+		BeetlTemplateUtil.renderToFile(errorTemplate,
 				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 
 	}
@@ -378,7 +415,7 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 		mapper.binding(TemplateVariable.ERROR_CODE_LIST.getVariable(), errorCodeList);
 		this.setDirectoryLanguageVariable(config, mapper);
 		mapper.binding(TemplateVariable.DICT_LIST.getVariable(), directoryList);
-		FileUtil.nioWriteFile(mapper.render(),
+		BeetlTemplateUtil.renderToFile(mapper,
 				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
@@ -392,7 +429,7 @@ public class DocBuilderTemplate implements IBaseDocBuilderTemplate<ApiDoc> {
 	public void buildDirectoryDataDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder, String template,
 			String outPutFileName) {
 		Template mapper = buildDirectoryDataDocTemplate(config, javaProjectBuilder, template);
-		FileUtil.nioWriteFile(mapper.render(),
+		BeetlTemplateUtil.renderToFile(mapper,
 				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
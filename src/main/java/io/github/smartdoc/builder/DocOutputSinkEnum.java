@@ -0,0 +1,192 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.builder;
+
+import io.github.smartdoc.builder.openapi.OpenApiBuilder;
+import io.github.smartdoc.builder.openapi.SwaggerBuilder;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.ApiSchema;
+import io.github.smartdoc.template.IDocBuildTemplate;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+
+/**
+ * The built-in outputs of {@link MultiFormatDocBuilder}.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public enum DocOutputSinkEnum implements IDocOutputSink {
+
+	/**
+	 * Markdown
+	 */
+	MARKDOWN("markdown", false, null, false, true) {
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+			ApiDocBuilder.buildApiDoc(apiSchema.getApiDatas(), config, javaProjectBuilder, docBuildTemplate);
+		}
+	},
+	/**
+	 * AsciiDoc
+	 */
+	ASCIIDOC("asciidoc", false, null, false, true) {
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+			AdocDocBuilder.buildApiDoc(apiSchema.getApiDatas(), config, javaProjectBuilder, docBuildTemplate);
+		}
+	},
+	/**
+	 * Html
+	 */
+	HTML("html", false, null, false, true) {
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+			HtmlApiDocBuilder.buildApiDoc(apiSchema.getApiDatas(), config, javaProjectBuilder, docBuildTemplate);
+		}
+	},
+	/**
+	 * Word
+	 */
+	WORD("word", false, null, false, true) {
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) throws Exception {
+			WordDocBuilder.buildApiDoc(apiSchema.getApiDatas(), config, javaProjectBuilder, docBuildTemplate);
+		}
+	},
+	/**
+	 * JMeter script
+	 */
+	JMETER("jmeter", false, Boolean.TRUE, false, true) {
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+			JMeterBuilder.buildApiDoc(apiSchema.getApiDatas(), config, javaProjectBuilder);
+		}
+	},
+	/**
+	 * Postman collection
+	 */
+	POSTMAN("postman", false, Boolean.TRUE, true, true) {
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+			PostmanJsonBuilder.buildPostmanCollection(apiSchema.getApiDatas(), config, docBuildTemplate);
+		}
+	},
+	/**
+	 * OpenAPI 3
+	 */
+	OPENAPI("openapi", true, Boolean.FALSE, false, true) {
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+			OpenApiBuilder.buildOpenApi(config, apiSchema);
+		}
+	},
+	/**
+	 * Swagger 2
+	 */
+	SWAGGER("swagger", true, Boolean.FALSE, false, true) {
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+			SwaggerBuilder.buildOpenApi(config, apiSchema);
+		}
+	},
+	/**
+	 * Push to Torna
+	 */
+	TORNA("torna", true, null, false, false) {
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+			TornaBuilder.buildTorna(docBuildTemplate.handleApiGroup(apiSchema.getApiDatas(), config), config,
+					javaProjectBuilder);
+		}
+	};
+
+	/**
+	 * name
+	 */
+	private final String sinkName;
+
+	/**
+	 * params are analyzed as tree
+	 */
+	private final boolean paramsDataToTree;
+
+	/**
+	 * show java type, null keeps the config
+	 */
+	private final Boolean showJavaType;
+
+	/**
+	 * use the server env as server url
+	 */
+	private final boolean useServerEnv;
+
+	/**
+	 * writes to the out path
+	 */
+	private final boolean checkOutPath;
+
+	DocOutputSinkEnum(String sinkName, boolean paramsDataToTree, Boolean showJavaType, boolean useServerEnv,
+			boolean checkOutPath) {
+		this.sinkName = sinkName;
+		this.paramsDataToTree = paramsDataToTree;
+		this.showJavaType = showJavaType;
+		this.useServerEnv = useServerEnv;
+		this.checkOutPath = checkOutPath;
+	}
+
+	@Override
+	public String getName() {
+		return sinkName;
+	}
+
+	@Override
+	public boolean isParamsDataToTree() {
+		return paramsDataToTree;
+	}
+
+	@Override
+	public Boolean getShowJavaType() {
+		return showJavaType;
+	}
+
+	@Override
+	public boolean isUseServerEnv() {
+		return useServerEnv;
+	}
+
+	@Override
+	public boolean isCheckOutPath() {
+		return checkOutPath;
+	}
+
+}
@@ -25,8 +25,13 @@ import io.github.smartdoc.factory.BuildTemplateFactory;
 import io.github.smartdoc.helper.JavaProjectBuilderHelper;
 import io.github.smartdoc.model.ApiConfig;
 import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.ApiDocDict;
+import io.github.smartdoc.model.ApiErrorCode;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.template.IDocBuildTemplate;
 import io.github.smartdoc.utils.BeetlTemplateUtil;
+import io.github.smartdoc.utils.DocUtil;
+import io.github.smartdoc.utils.ParallelUtil;
 import com.power.common.util.FileUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.apache.commons.lang3.StringUtils;
@@ -87,7 +92,27 @@ public class HtmlApiDocBuilder {
 		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
-		List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+		// the dictionaries and error codes are shared by the documents of the build
+		DocBuildContext previous = DocBuildContext.bind(configBuilder.getBuildContext());
+		try {
+			List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+			buildApiDoc(apiDocList, config, javaProjectBuilder, docBuildTemplate);
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
+	}
+
+	/**
+	 * Render the html docs from the analyzed api data.
+	 * @param apiDocList list of api doc
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param docBuildTemplate doc build template used to analyze the api data
+	 */
+	public static void buildApiDoc(List<ApiDoc> apiDocList, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
 		builderTemplate.copyJQueryAndCss(config);
 		if (config.isAllInOne()) {
 			apiDocList = docBuildTemplate.handleApiGroup(apiDocList, config);
@@ -99,7 +124,7 @@ public class HtmlApiDocBuilder {
 				builderTemplate.buildAllInOne(apiDocList, config, javaProjectBuilder,
 						DocGlobalConstants.DEBUG_PAGE_ALL_TPL, INDEX_HTML);
 				Template mockJs = BeetlTemplateUtil.getByName(DocGlobalConstants.DEBUG_JS_TPL);
-				FileUtil.nioWriteFile(mockJs.render(),
+				BeetlTemplateUtil.renderToFile(mockJs,
 						config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.DEBUG_JS_OUT);
 			}
 			else {
@@ -118,7 +143,7 @@ public class HtmlApiDocBuilder {
 				buildDoc(builderTemplate, apiDocList, config, javaProjectBuilder,
 						DocGlobalConstants.DEBUG_PAGE_SINGLE_TPL, indexAlias);
 				Template mockJs = BeetlTemplateUtil.getByName(DocGlobalConstants.DEBUG_JS_TPL);
-				FileUtil.nioWriteFile(mockJs.render(),
+				BeetlTemplateUtil.renderToFile(mockJs,
 						config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.DEBUG_JS_OUT);
 			}
 			else {
@@ -147,15 +172,17 @@ public class HtmlApiDocBuilder {
 	private static void buildDoc(DocBuilderTemplate builderTemplate, List<ApiDoc> apiDocList, ApiConfig config,
 			JavaProjectBuilder javaProjectBuilder, String template, String indexHtml) {
 		FileUtil.mkdirs(config.getOutPath());
-		int index = 0;
-		for (ApiDoc doc : apiDocList) {
-			if (index == 0) {
-				doc.setAlias(indexHtml);
-			}
-			builderTemplate.buildDoc(apiDocList, config, javaProjectBuilder, template, doc.getAlias() + ".html", doc,
-					indexHtml);
-			index++;
+		if (apiDocList.isEmpty()) {
+			return;
 		}
+		// the first page is the index page, set its alias before rendering any page
+		apiDocList.get(0).setAlias(indexHtml);
+		// load the error codes and dictionaries once, the pages are rendered concurrently
+		List<ApiErrorCode> errorCodeList = DocUtil.errorCodeDictToList(config, javaProjectBuilder);
+		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
+		ParallelUtil.forEach(apiDocList, config.getRenderThreads(), "render",
+				doc -> builderTemplate.buildDoc(apiDocList, config, template, doc.getAlias() + ".html", doc, indexHtml,
+						errorCodeList, apiDocDictList));
 	}
 
 }
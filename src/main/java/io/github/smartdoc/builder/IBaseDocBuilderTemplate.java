@@ -32,7 +32,6 @@ import io.github.smartdoc.utils.BeetlTemplateUtil;
 import io.github.smartdoc.utils.DocUtil;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.DateTimeUtil;
-import com.power.common.util.FileUtil;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.apache.commons.lang3.StringUtils;
@@ -40,10 +39,12 @@ import org.beetl.core.Resource;
 import org.beetl.core.Template;
 import org.beetl.core.resource.ClasspathResourceLoader;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -99,7 +100,6 @@ public interface IBaseDocBuilderTemplate<T extends IDoc> {
 		if (StringUtil.isEmpty(config.getOutPath()) && checkOutPath) {
 			throw new RuntimeException("doc output path can't be null or empty");
 		}
-		ApiConfig.setInstance(config);
 	}
 
 	/**
@@ -110,14 +110,9 @@ public interface IBaseDocBuilderTemplate<T extends IDoc> {
 		if (Objects.isNull(config)) {
 			throw new NullPointerException("ApiConfig can't be null");
 		}
-		System.setProperty(DocGlobalConstants.RANDOM_MOCK, String.valueOf(config.isRandomMock()));
-		if (Objects.nonNull(config.getLanguage())) {
-			System.setProperty(DocGlobalConstants.DOC_LANGUAGE, config.getLanguage().getCode());
-		}
-		else {
+		if (Objects.isNull(config.getLanguage())) {
 			// default is chinese
 			config.setLanguage(DocLanguage.CHINESE);
-			System.setProperty(DocGlobalConstants.DOC_LANGUAGE, DocLanguage.CHINESE.getCode());
 		}
 		if (Objects.isNull(config.getRevisionLogs())) {
 			String strTime = DateTimeUtil.long2Str(NOW, DateTimeUtil.DATE_FORMAT_SECOND);
@@ -261,7 +256,7 @@ public interface IBaseDocBuilderTemplate<T extends IDoc> {
 	 */
 	default void copyJQueryAndCss(ApiConfig config) {
 		Template indexCssTemplate = BeetlTemplateUtil.getByName(DocGlobalConstants.ALL_IN_ONE_CSS);
-		FileUtil.nioWriteFile(indexCssTemplate.render(),
+		BeetlTemplateUtil.renderToFile(indexCssTemplate,
 				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.ALL_IN_ONE_CSS_OUT);
 		IBaseDocBuilderTemplate.copyJarFile("css/" + DocGlobalConstants.FONT_STYLE,
 				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + DocGlobalConstants.FONT_STYLE);
@@ -285,18 +280,13 @@ public interface IBaseDocBuilderTemplate<T extends IDoc> {
 	static void copyJarFile(String source, String target) {
 		ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader("/template/");
 		Resource<?> resource = resourceLoader.getResource(source);
-		try (FileWriter fileWriter = new FileWriter(target, false); Reader reader = resource.openReader()) {
-			char[] c = new char[1024 * 1024];
-			int temp;
-			int len = 0;
-			while ((temp = reader.read()) != -1) {
-				c[len] = (char) temp;
-				len++;
+		try (Reader reader = resource.openReader();
+				Writer writer = Files.newBufferedWriter(Paths.get(target), StandardCharsets.UTF_8)) {
+			char[] buffer = new char[8192];
+			int len;
+			while ((len = reader.read(buffer)) != -1) {
+				writer.write(buffer, 0, len);
 			}
-			reader.close();
-			BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-			bufferedWriter.write(c, 0, len);
-			bufferedWriter.close();
 		}
 		catch (IOException e) {
 			log.warning("copy jar file error:" + e.getMessage());
@@ -313,7 +303,7 @@ public interface IBaseDocBuilderTemplate<T extends IDoc> {
 	default void buildErrorCodeDoc(ApiConfig config, String template, String outPutFileName,
 			JavaProjectBuilder javaProjectBuilder) {
 		Template tpl = this.buildErrorCodeDocTemplate(config, template, javaProjectBuilder);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		BeetlTemplateUtil.renderToFile(tpl, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
 	/**
@@ -0,0 +1,90 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.builder;
+
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.ApiSchema;
+import io.github.smartdoc.template.IDocBuildTemplate;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+
+/**
+ * An output of {@link MultiFormatDocBuilder}. The sink declares how the api data must be
+ * analyzed for it, sinks with the same analysis settings share one analysis.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public interface IDocOutputSink {
+
+	/**
+	 * Name of the sink, used in logs and timings.
+	 * @return name
+	 */
+	String getName();
+
+	/**
+	 * Whether the request and response params are analyzed as tree.
+	 * @return boolean
+	 */
+	default boolean isParamsDataToTree() {
+		return false;
+	}
+
+	/**
+	 * Whether the java type of the params is shown, null keeps the value of the config.
+	 * @return Boolean
+	 */
+	default Boolean getShowJavaType() {
+		return null;
+	}
+
+	/**
+	 * Whether the server url is replaced by the server env of the config.
+	 * @return boolean
+	 */
+	default boolean isUseServerEnv() {
+		return false;
+	}
+
+	/**
+	 * Whether the sink writes to the out path of the config.
+	 * @return boolean
+	 */
+	default boolean isCheckOutPath() {
+		return true;
+	}
+
+	/**
+	 * Write the output from the analyzed api data.
+	 * @param apiSchema analyzed api data, shared with the other sinks of the same
+	 * analysis
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param docBuildTemplate doc build template used to analyze the api data
+	 * @throws Exception exception
+	 */
+	void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			IDocBuildTemplate<ApiDoc> docBuildTemplate) throws Exception;
+
+}
@@ -33,6 +33,7 @@ import io.github.smartdoc.model.rpc.RpcApiDoc;
 import io.github.smartdoc.template.IDocBuildTemplate;
 import io.github.smartdoc.utils.BeetlTemplateUtil;
 import io.github.smartdoc.utils.DocUtil;
+import io.github.smartdoc.utils.ParallelUtil;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.FileUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
@@ -72,7 +73,7 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 	 */
 	default void buildApiDoc(List<T> apiDocList, ApiConfig config, String template, String fileExtension) {
 		FileUtil.mkdirs(config.getOutPath());
-		for (T rpcDoc : apiDocList) {
+		ParallelUtil.forEach(apiDocList, config.getRenderThreads(), "render", rpcDoc -> {
 			Template mapper = BeetlTemplateUtil.getByName(template);
 			mapper.binding(TemplateVariable.DESC.getVariable(), rpcDoc.getDesc());
 			mapper.binding(TemplateVariable.NAME.getVariable(), rpcDoc.getName());
@@ -82,7 +83,7 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 			mapper.binding(TemplateVariable.VERSION.getVariable(), rpcDoc.getVersion());
 			mapper.binding(TemplateVariable.URI.getVariable(), rpcDoc.getUri());
 			this.writeApiDocFile(mapper, config, rpcDoc, fileExtension);
-		}
+		});
 	}
 
 	/**
@@ -93,7 +94,7 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 	 * @param fileExtension file extension
 	 */
 	default void writeApiDocFile(Template mapper, ApiConfig config, T rpcDoc, String fileExtension) {
-		FileUtil.nioWriteFile(mapper.render(),
+		BeetlTemplateUtil.renderToFile(mapper,
 				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + rpcDoc.getShortName() + fileExtension);
 	}
 
@@ -120,7 +121,7 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 		tpl.binding(TemplateVariable.RPC_CONSUMER_CONFIG.getVariable(), rpcConfigConfigContent);
 		// binding common variable
 		this.bindingCommonVariable(config, javaProjectBuilder, tpl, apiDocList.isEmpty());
-		FileUtil.nioWriteFile(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		BeetlTemplateUtil.renderToFile(tpl, outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
 	/**
@@ -192,7 +193,7 @@ public interface IRpcDocBuilderTemplate<T extends AbstractRpcApiDoc<?>> extends
 		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
 		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 		tpl.binding(TemplateVariable.DIRECTORY_TREE.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		BeetlTemplateUtil.renderToFile(tpl, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
 	/**
@@ -77,6 +77,17 @@ public class JMeterBuilder {
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
 		List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+		buildApiDoc(apiDocList, config, javaProjectBuilder);
+	}
+
+	/**
+	 * Render the JMeter script from the analyzed api data.
+	 * @param apiDocList list of api doc
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 */
+	public static void buildApiDoc(List<ApiDoc> apiDocList, ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
 		String version = config.isCoverOld() ? "" : "-V"
 				+ DateTimeUtil.long2Str(System.currentTimeMillis(), DocGlobalConstants.DATE_FORMAT_YYYY_MM_DD_HH_MM);
 		String docName;
@@ -0,0 +1,202 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.builder;
+
+import io.github.smartdoc.factory.BuildTemplateFactory;
+import io.github.smartdoc.helper.JavaProjectBuilderHelper;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.ApiSchema;
+import io.github.smartdoc.model.DocBuildContext;
+import io.github.smartdoc.template.IDocBuildTemplate;
+import com.power.common.util.CollectionUtil;
+import com.power.common.util.StringUtil;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Build several output formats from one analysis. The sources are loaded and parsed once,
+ * the api data is analyzed once for every distinct set of analysis settings required by
+ * the sinks (e.g. OpenAPI needs the params as tree, Markdown does not) and then handed to
+ * all the sinks sharing these settings before the next settings are analyzed.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class MultiFormatDocBuilder {
+
+	/**
+	 * Logger for the class.
+	 */
+	private static final Logger log = Logger.getLogger(MultiFormatDocBuilder.class.getName());
+
+	/**
+	 * private constructor
+	 */
+	private MultiFormatDocBuilder() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Build the outputs, for unit testing.
+	 * @param config ApiConfig
+	 * @param sinks outputs to build
+	 * @return elapsed milliseconds of each output, key is the sink name
+	 */
+	public static Map<String, Long> buildApiDoc(ApiConfig config, Collection<? extends IDocOutputSink> sinks) {
+		JavaProjectBuilder javaProjectBuilder = JavaProjectBuilderHelper.create();
+		return buildApiDoc(config, javaProjectBuilder, sinks);
+	}
+
+	/**
+	 * Only for smart-doc maven plugin and gradle plugin. The outputs sharing analysis
+	 * settings are written right after their analysis, while the config still holds these
+	 * settings, and before the next settings are analyzed. A failing output stops the
+	 * build with a RuntimeException naming the output.
+	 * @param config ApiConfig
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @param sinks outputs to build
+	 * @return elapsed milliseconds of each output, key is the sink name
+	 */
+	public static Map<String, Long> buildApiDoc(ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			Collection<? extends IDocOutputSink> sinks) {
+		Map<String, Long> timings = new LinkedHashMap<>();
+		if (CollectionUtil.isEmpty(sinks)) {
+			return timings;
+		}
+		Set<IDocOutputSink> sinkSet = new LinkedHashSet<>(sinks);
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
+		builderTemplate.checkAndInit(config, sinkSet.stream().anyMatch(IDocOutputSink::isCheckOutPath));
+		ProjectDocConfigBuilder configBuilder = new ProjectDocConfigBuilder(config, javaProjectBuilder);
+		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
+				config.getClassLoader());
+		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
+
+		// group the sinks by the analysis settings they need
+		boolean paramsDataToTree = config.isParamsDataToTree();
+		Boolean showJavaType = config.getShowJavaType();
+		String serverUrl = config.getServerUrl();
+		Map<String, List<IDocOutputSink>> groups = new LinkedHashMap<>();
+		for (IDocOutputSink sink : sinkSet) {
+			String key = sink.isParamsDataToTree() + "|" + resolveShowJavaType(sink, showJavaType) + "|"
+					+ resolveServerUrl(sink, config, serverUrl);
+			groups.computeIfAbsent(key, k -> new ArrayList<>()).add(sink);
+		}
+		Map<String, Long> elapsed = new HashMap<>(sinkSet.size());
+		// the outputs read the dictionaries and error codes of the build
+		DocBuildContext previous = DocBuildContext.bind(configBuilder.getBuildContext());
+		try {
+			for (List<IDocOutputSink> group : groups.values()) {
+				IDocOutputSink first = group.get(0);
+				config.setParamsDataToTree(first.isParamsDataToTree());
+				config.setShowJavaType(resolveShowJavaType(first, showJavaType));
+				config.setServerUrl(resolveServerUrl(first, config, serverUrl));
+				long start = System.currentTimeMillis();
+				ApiSchema<ApiDoc> apiSchema = docBuildTemplate.getApiData(configBuilder);
+				log.info("Analyzed api data for " + sinkNames(group) + " in " + (System.currentTimeMillis() - start)
+						+ " ms");
+				for (IDocOutputSink sink : group) {
+					elapsed.put(sink.getName(), output(sink, apiSchema, config, configBuilder, docBuildTemplate));
+				}
+			}
+		}
+		finally {
+			config.setParamsDataToTree(paramsDataToTree);
+			config.setShowJavaType(showJavaType);
+			config.setServerUrl(serverUrl);
+			DocBuildContext.bind(previous);
+		}
+		for (IDocOutputSink sink : sinkSet) {
+			timings.put(sink.getName(), elapsed.get(sink.getName()));
+		}
+		return timings;
+	}
+
+	/**
+	 * Write one output.
+	 * @param sink sink
+	 * @param apiSchema api data analyzed with the settings of the sink
+	 * @param config ApiConfig
+	 * @param configBuilder ProjectDocConfigBuilder
+	 * @param docBuildTemplate IDocBuildTemplate
+	 * @return elapsed milliseconds
+	 */
+	private static long output(IDocOutputSink sink, ApiSchema<ApiDoc> apiSchema, ApiConfig config,
+			ProjectDocConfigBuilder configBuilder, IDocBuildTemplate<ApiDoc> docBuildTemplate) {
+		long start = System.currentTimeMillis();
+		try {
+			sink.output(apiSchema, config, configBuilder.getJavaProjectBuilder(), docBuildTemplate);
+		}
+		catch (Exception e) {
+			throw new RuntimeException("Failed to build " + sink.getName() + ": " + e.getMessage(), e);
+		}
+		long cost = System.currentTimeMillis() - start;
+		log.info("Built " + sink.getName() + " in " + cost + " ms");
+		return cost;
+	}
+
+	/**
+	 * Resolve the show java type setting of the sink.
+	 * @param sink sink
+	 * @param showJavaType show java type of the config
+	 * @return Boolean
+	 */
+	private static Boolean resolveShowJavaType(IDocOutputSink sink, Boolean showJavaType) {
+		return Objects.isNull(sink.getShowJavaType()) ? showJavaType : sink.getShowJavaType();
+	}
+
+	/**
+	 * Resolve the server url of the sink.
+	 * @param sink sink
+	 * @param config ApiConfig
+	 * @param serverUrl server url of the config
+	 * @return server url
+	 */
+	private static String resolveServerUrl(IDocOutputSink sink, ApiConfig config, String serverUrl) {
+		if (sink.isUseServerEnv() && StringUtil.isNotEmpty(config.getServerEnv())) {
+			return config.getServerEnv();
+		}
+		return serverUrl;
+	}
+
+	/**
+	 * Join the names of the sinks.
+	 * @param sinks sinks
+	 * @return names
+	 */
+	private static String sinkNames(List<IDocOutputSink> sinks) {
+		return sinks.stream().map(IDocOutputSink::getName).collect(Collectors.joining(", "));
+	}
+
+}
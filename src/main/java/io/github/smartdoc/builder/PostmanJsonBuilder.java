@@ -281,6 +281,17 @@ public class PostmanJsonBuilder {
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
 		config.setShowJavaType(true);
 		List<ApiDoc> apiDocList = docBuildTemplate.getApiData(configBuilder).getApiDatas();
+		buildPostmanCollection(apiDocList, config, docBuildTemplate);
+	}
+
+	/**
+	 * Render the Postman collection from the analyzed api data.
+	 * @param apiDocList list of api doc
+	 * @param config ApiConfig
+	 * @param docBuildTemplate doc build template used to analyze the api data
+	 */
+	public static void buildPostmanCollection(List<ApiDoc> apiDocList, ApiConfig config,
+			IDocBuildTemplate<ApiDoc> docBuildTemplate) {
 		apiDocList = docBuildTemplate.handleApiGroup(apiDocList, config);
 		RequestItem requestItem = new RequestItem();
 		requestItem.setInfo(new InfoBean(config.getProjectName()));
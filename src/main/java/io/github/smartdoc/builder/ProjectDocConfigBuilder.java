@@ -23,7 +23,11 @@ package io.github.smartdoc.builder;
 import io.github.smartdoc.constants.DocGlobalConstants;
 import io.github.smartdoc.constants.HighLightJsConstants;
 import io.github.smartdoc.constants.HighlightStyle;
+import io.github.smartdoc.helper.DocBuildHelper;
+import io.github.smartdoc.helper.DocJavaFieldCache;
 import io.github.smartdoc.helper.JavaProjectBuilderHelper;
+import io.github.smartdoc.helper.SourceParseCache;
+import io.github.smartdoc.helper.TypeResolver;
 import io.github.smartdoc.model.ApiConfig;
 import io.github.smartdoc.model.ApiConstant;
 import io.github.smartdoc.model.ApiDataDictionary;
@@ -31,6 +35,7 @@ import io.github.smartdoc.model.ApiErrorCodeDictionary;
 import io.github.smartdoc.model.ApiObjectReplacement;
 import io.github.smartdoc.model.BodyAdvice;
 import io.github.smartdoc.model.CustomField;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.model.DocJavaField;
 import io.github.smartdoc.model.SourceCodePath;
 import io.github.smartdoc.utils.JavaClassUtil;
@@ -45,24 +50,24 @@ import com.thoughtworks.qdox.parser.ParseException;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.nio.file.Files;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * ProjectDocConfigBuilder
@@ -113,15 +118,30 @@ public class ProjectDocConfigBuilder {
 	private final Map<String, String> constantsMap = new ConcurrentHashMap<>();
 
 	/**
-	 * serverUrl
+	 * build-scoped cache of class fields
 	 */
-	private final String serverUrl;
+	private final DocJavaFieldCache docJavaFieldCache;
+
+	/**
+	 * build-scoped type resolution shared by the type walkers
+	 */
+	private final TypeResolver typeResolver = new TypeResolver();
+
+	/**
+	 * state of the current build
+	 */
+	private final DocBuildContext buildContext;
 
 	/**
 	 * ApiConfig
 	 */
 	private final ApiConfig apiConfig;
 
+	/**
+	 * whether some sources are not parsed up front but resolved on demand
+	 */
+	private boolean lazySources;
+
 	/**
 	 * Constructor
 	 * @param apiConfig ApiConfig
@@ -132,33 +152,37 @@ public class ProjectDocConfigBuilder {
 			throw new NullPointerException("ApiConfig can't be null.");
 		}
 		this.apiConfig = apiConfig;
+		// the build state belongs to the build instead of the JVM wide singletons, it is
+		// bound to the building thread only while the build runs
+		this.buildContext = new DocBuildContext(apiConfig);
+		this.docJavaFieldCache = new DocJavaFieldCache(apiConfig.getClassLoader());
 		if (Objects.isNull(javaProjectBuilder)) {
 			javaProjectBuilder = JavaProjectBuilderHelper.create();
 		}
 
-		if (StringUtil.isEmpty(apiConfig.getServerUrl())) {
-			this.serverUrl = DocGlobalConstants.DEFAULT_SERVER_URL;
-		}
-		else {
-			this.serverUrl = apiConfig.getServerUrl();
-		}
 		this.setHighlightStyle();
 		javaProjectBuilder.setEncoding(Charset.DEFAULT_CHARSET);
 		this.javaProjectBuilder = javaProjectBuilder;
+		DocBuildContext previous = DocBuildContext.bind(this.buildContext);
 		try {
-			this.loadJavaSource(apiConfig, this.javaProjectBuilder);
-		}
-		catch (Exception e) {
-			log.warning(e.getMessage());
+			try {
+				this.loadJavaSource(apiConfig, this.javaProjectBuilder);
+			}
+			catch (Exception e) {
+				log.warning(e.getMessage());
+			}
+			this.initClassFilesMap();
+			this.initCustomResponseFieldsMap(apiConfig);
+			this.initCustomRequestFieldsMap(apiConfig);
+			this.initReplaceClassMap(apiConfig);
+			this.initConstants(apiConfig);
+			this.initDict(apiConfig);
+			this.checkBodyAdvice(apiConfig.getRequestBodyAdvice());
+			this.checkBodyAdvice(apiConfig.getResponseBodyAdvice());
+		}
+		finally {
+			DocBuildContext.bind(previous);
 		}
-		this.initClassFilesMap();
-		this.initCustomResponseFieldsMap(apiConfig);
-		this.initCustomRequestFieldsMap(apiConfig);
-		this.initReplaceClassMap(apiConfig);
-		this.initConstants(apiConfig);
-		this.initDict(apiConfig);
-		this.checkBodyAdvice(apiConfig.getRequestBodyAdvice());
-		this.checkBodyAdvice(apiConfig.getResponseBodyAdvice());
 	}
 
 	/**
@@ -216,11 +240,15 @@ public class ProjectDocConfigBuilder {
 		JavaClass cls = javaProjectBuilder.getClassByName(simpleName);
 
 		if (!cls.isEnum()) {
-			List<DocJavaField> fieldList = JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(), null);
+			List<DocJavaField> fieldList = docJavaFieldCache.getFields(cls);
 			// handle inner class
 			if (Objects.isNull(cls.getFields()) || fieldList.isEmpty()) {
-				cls = classFilesMap.get(simpleName);
-				return cls;
+				JavaClass nestedClass = classFilesMap.get(simpleName);
+				if (Objects.isNull(nestedClass) && lazySources && Objects.nonNull(cls.getSource())) {
+					// the source is not parsed up front, it is resolved on demand
+					return cls;
+				}
+				return nestedClass;
 			}
 		}
 
@@ -231,6 +259,15 @@ public class ProjectDocConfigBuilder {
 		return cls;
 	}
 
+	/**
+	 * Log the statistics of the build-scoped caches, called at the end of a build.
+	 */
+	public void logCacheStatistics() {
+		log.info("Field model cache statistics: " + docJavaFieldCache);
+		log.info("Type resolution statistics: " + typeResolver);
+		log.info("Example cache statistics: " + buildContext.getExampleCache());
+	}
+
 	/**
 	 * Load java source.
 	 * @param config ApiConfig
@@ -238,12 +275,22 @@ public class ProjectDocConfigBuilder {
 	 */
 	private void loadJavaSource(ApiConfig config, JavaProjectBuilder builder) {
 		if (CollectionUtil.isNotEmpty(config.getJarSourcePaths())) {
-			for (SourceCodePath path : config.getJarSourcePaths()) {
-				loadJarJavaSource(path.getPath(), builder);
-			}
-		}
+			config.getJarSourcePaths()
+				.stream()
+				.filter(Objects::nonNull)
+				.map(SourceCodePath::getPath)
+				.filter(StringUtil::isNotEmpty)
+				.forEach(path -> loadJarJavaSource(path, builder));
+		}
+		SourceParseCache sourceCache = SourceParseCache.detect(config);
+		Set<String> changedFiles = this.getChangedSourceFiles(config);
 		if (CollectionUtil.isEmpty(config.getSourceCodePaths())) {
-			builder.addSourceTree(new File(DocGlobalConstants.PROJECT_CODE_PATH));
+			if (sourceCache.isEnabled() || Objects.nonNull(changedFiles)) {
+				loadJavaSource(DocGlobalConstants.PROJECT_CODE_PATH, builder, sourceCache, changedFiles);
+			}
+			else {
+				builder.addSourceTree(new File(DocGlobalConstants.PROJECT_CODE_PATH));
+			}
 		}
 		else {
 			for (SourceCodePath path : config.getSourceCodePaths()) {
@@ -253,63 +300,119 @@ public class ProjectDocConfigBuilder {
 				String strPath = path.getPath();
 				if (StringUtil.isNotEmpty(strPath)) {
 					strPath = strPath.replace("\\", DocGlobalConstants.PATH_DELIMITER);
-					loadJavaSource(strPath, builder);
+					loadJavaSource(strPath, builder, sourceCache, changedFiles);
 				}
 			}
 		}
+		sourceCache.save();
+	}
+
+	/**
+	 * Get the source files changed since the last incremental build. In incremental mode
+	 * only the changed sources are parsed up front, the entry points related to them and
+	 * the types they reference are parsed on demand.
+	 * @param config ApiConfig
+	 * @return normalized absolute paths of the changed files, null if all the sources
+	 * must be parsed
+	 */
+	private Set<String> getChangedSourceFiles(ApiConfig config) {
+		if (!config.isIncrement()) {
+			return null;
+		}
+		// the enums implementing a dictionary interface are searched in all the sources
+		List<Class<?>> enumClasses = new ArrayList<>();
+		if (CollectionUtil.isNotEmpty(config.getDataDictionaries())) {
+			config.getDataDictionaries().forEach(dictionary -> enumClasses.add(dictionary.getEnumClass()));
+		}
+		if (CollectionUtil.isNotEmpty(config.getErrorCodeDictionaries())) {
+			config.getErrorCodeDictionaries().forEach(dictionary -> enumClasses.add(dictionary.getEnumClass()));
+		}
+		boolean interfaceDictionary = enumClasses.stream()
+			.anyMatch(enumClass -> Objects.nonNull(enumClass) && enumClass.isInterface());
+		if (interfaceDictionary) {
+			return null;
+		}
+		try {
+			Set<File> files = DocBuildHelper.getChangedSourceFiles(config, this.buildContext);
+			if (Objects.isNull(files)) {
+				return null;
+			}
+			return files.stream().map(ProjectDocConfigBuilder::normalizePath).collect(Collectors.toSet());
+		}
+		catch (Exception e) {
+			log.warning("Failed to get the changed files, all sources are parsed: " + e.getMessage());
+			return null;
+		}
 	}
 
 	/**
-	 * Load jar java source.
+	 * Normalized absolute path of the file.
+	 * @param file file
+	 * @return path
+	 */
+	private static String normalizePath(File file) {
+		return file.toPath().toAbsolutePath().normalize().toString();
+	}
+
+	/**
+	 * Load java source.
 	 * @param strPath path
 	 * @param builder builder
+	 * @param sourceCache index of the sources parsed by the last build
+	 * @param changedFiles the changed files in incremental mode, null to parse all
 	 */
-	private void loadJavaSource(String strPath, JavaProjectBuilder builder) {
-		DirectoryScanner scanner = new DirectoryScanner(new File(strPath));
+	private void loadJavaSource(String strPath, JavaProjectBuilder builder, SourceParseCache sourceCache,
+			Set<String> changedFiles) {
+		File sourceRoot = new File(strPath);
+		DirectoryScanner scanner = new DirectoryScanner(sourceRoot);
 		scanner.addFilter(new SuffixFilter(".java"));
+		AtomicInteger skipped = new AtomicInteger();
 		scanner.scan(currentFile -> {
+			if (sourceCache.isUnchanged(currentFile)
+					|| (Objects.nonNull(changedFiles) && !changedFiles.contains(normalizePath(currentFile)))) {
+				skipped.incrementAndGet();
+				return;
+			}
 			try {
-				builder.addSource(currentFile);
+				sourceCache.put(sourceRoot, currentFile, builder.addSource(currentFile));
 			}
 			catch (ParseException | IOException e) {
 				log.warning(e.getMessage());
 			}
 		});
+		if (skipped.get() > 0) {
+			// the unchanged sources are parsed on demand when they are referenced
+			builder.addSourceFolder(sourceRoot);
+			this.lazySources = true;
+			log.info("Skipped parsing " + skipped.get() + " unchanged sources in " + strPath);
+		}
 	}
 
 	/**
-	 * Load jar java source.
+	 * Load jar java source, each entry is handed to the builder as soon as it is read so
+	 * that only one source is held in memory at a time. A source which can't be parsed is
+	 * skipped.
 	 * @param path path
 	 * @param builder builder
 	 */
 	public void loadJarJavaSource(String path, JavaProjectBuilder builder) {
-		OutputStream out;
 		if (!path.endsWith(".jar")) {
 			return;
 		}
 		try (JarFile jarFile = new JarFile(path)) {
-			builder.setEncoding(Charset.DEFAULT_CHARSET);
 			Enumeration<JarEntry> entryEnumeration = jarFile.entries();
 			while (entryEnumeration.hasMoreElements()) {
 				JarEntry entry = entryEnumeration.nextElement();
-				if (entry.getName().endsWith(".java")) {
-					InputStream is = jarFile.getInputStream(entry);
-					File file = new File(DocGlobalConstants.JAR_TEMP + entry.getName());
-					if (!file.exists()) {
-						file.getParentFile().mkdirs();
-					}
-					out = Files.newOutputStream(file.toPath());
-					int len;
-					while ((len = is.read()) != -1) {
-						out.write(len);
-					}
-					is.close();
-					out.close();
+				if (!entry.getName().endsWith(".java")) {
+					continue;
+				}
+				try (Reader reader = new InputStreamReader(jarFile.getInputStream(entry), Charset.DEFAULT_CHARSET)) {
+					builder.addSource(reader);
+				}
+				catch (ParseException e) {
+					log.warning("Failed to parse " + entry.getName() + " in " + path + ": " + e.getMessage());
 				}
 			}
-			File file = new File(DocGlobalConstants.JAR_TEMP);
-			builder.addSourceTree(file);
-			deleteDir(file);
 		}
 		catch (IOException e) {
 			log.info("jar" + path + " load  error ,e :" + e);
@@ -319,7 +422,9 @@ public class ProjectDocConfigBuilder {
 	/**
 	 * Delete dir.
 	 * @param file file
+	 * @deprecated the jar sources are no longer extracted to a temporary dir
 	 */
+	@Deprecated
 	public static void deleteDir(File file) {
 		File[] files = file.listFiles();
 		if (file.isFile() || Objects.isNull(files) || files.length == 0) {
@@ -493,6 +598,11 @@ public class ProjectDocConfigBuilder {
 		return javaProjectBuilder;
 	}
 
+	/**
+	 * Get the classes parsed up front, the unchanged plain types skipped by the
+	 * {@link SourceParseCache} are not included, they are resolved by name on demand.
+	 * @return key: fully qualified name
+	 */
 	public Map<String, JavaClass> getClassFilesMap() {
 		return classFilesMap;
 	}
@@ -505,8 +615,16 @@ public class ProjectDocConfigBuilder {
 		return customReqFieldMap;
 	}
 
+	/**
+	 * Get the server url, it is resolved from the config on each call so that a
+	 * multi-format build can analyze with a different server url per output.
+	 * @return server url
+	 */
 	public String getServerUrl() {
-		return serverUrl;
+		if (StringUtil.isEmpty(apiConfig.getServerUrl())) {
+			return DocGlobalConstants.DEFAULT_SERVER_URL;
+		}
+		return apiConfig.getServerUrl();
 	}
 
 	public ApiConfig getApiConfig() {
@@ -525,4 +643,16 @@ public class ProjectDocConfigBuilder {
 		return constantsMap;
 	}
 
+	public DocBuildContext getBuildContext() {
+		return buildContext;
+	}
+
+	public DocJavaFieldCache getDocJavaFieldCache() {
+		return docJavaFieldCache;
+	}
+
+	public TypeResolver getTypeResolver() {
+		return typeResolver;
+	}
+
 }
@@ -26,13 +26,16 @@ import io.github.smartdoc.helper.JavaProjectBuilderHelper;
 import io.github.smartdoc.model.ApiConfig;
 import io.github.smartdoc.model.ApiDoc;
 import io.github.smartdoc.model.ApiSchema;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.template.IDocBuildTemplate;
 import io.github.smartdoc.utils.DocUtil;
+import io.github.smartdoc.utils.ParallelUtil;
 import com.power.common.util.DateTimeUtil;
 import com.power.common.util.FileUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.beetl.core.Template;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 
@@ -95,9 +98,28 @@ public class WordDocBuilder {
 		IDocBuildTemplate<ApiDoc> docBuildTemplate = BuildTemplateFactory.getDocBuildTemplate(config.getFramework(),
 				config.getClassLoader());
 		Objects.requireNonNull(docBuildTemplate, "doc build template is null");
-		ApiSchema<ApiDoc> apiSchema = docBuildTemplate.getApiData(configBuilder);
-		List<ApiDoc> apiDocList = apiSchema.getApiDatas();
+		// the dictionaries and error codes are shared by the documents of the build
+		DocBuildContext previous = DocBuildContext.bind(configBuilder.getBuildContext());
+		try {
+			ApiSchema<ApiDoc> apiSchema = docBuildTemplate.getApiData(configBuilder);
+			buildApiDoc(apiSchema.getApiDatas(), config, javaProjectBuilder, docBuildTemplate);
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
+	}
 
+	/**
+	 * Render the Word docs from the analyzed api data.
+	 * @param apiDocList list of api doc
+	 * @param config config
+	 * @param javaProjectBuilder javaProjectBuilder
+	 * @param docBuildTemplate doc build template used to analyze the api data
+	 * @throws Exception exception
+	 */
+	public static void buildApiDoc(List<ApiDoc> apiDocList, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+			IDocBuildTemplate<ApiDoc> docBuildTemplate) throws Exception {
+		DocBuilderTemplate builderTemplate = new DocBuilderTemplate();
 		if (config.isAllInOne()) {
 			String version = config.isCoverOld() ? "" : "-V" + DateTimeUtil.long2Str(System.currentTimeMillis(),
 					DocGlobalConstants.DATE_FORMAT_YYYY_MM_DD_HH_MM);
@@ -107,25 +129,29 @@ public class WordDocBuilder {
 			FileUtil.mkdirs(outPath);
 			Template tpl = builderTemplate.buildAllRenderDocTemplate(apiDocList, config, javaProjectBuilder,
 					DocGlobalConstants.ALL_IN_ONE_WORD_XML_TPL, null, null);
-			DocUtil.copyAndReplaceDocx(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + docName,
-					TEMPLATE_DOCX);
+			DocUtil.copyAndReplaceDocx(tpl, outPath + DocGlobalConstants.FILE_SEPARATOR + docName, TEMPLATE_DOCX);
 		}
 		else {
 			FileUtil.mkdir(config.getOutPath());
-			for (ApiDoc doc : apiDocList) {
+			ParallelUtil.forEach(apiDocList, config.getRenderThreads(), "render", doc -> {
 				Template template = builderTemplate.buildApiDocTemplate(doc, config, DocGlobalConstants.WORD_XML_TPL);
-				DocUtil.copyAndReplaceDocx(template.render(),
-						config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + doc.getName() + BUILD_DOCX,
-						TEMPLATE_DOCX);
-			}
+				try {
+					DocUtil.copyAndReplaceDocx(template,
+							config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + doc.getName() + BUILD_DOCX,
+							TEMPLATE_DOCX);
+				}
+				catch (IOException e) {
+					throw new RuntimeException("Failed to write the word doc of " + doc.getName(), e);
+				}
+			});
 			Template errorCodeDocTemplate = builderTemplate.buildErrorCodeDocTemplate(config,
 					DocGlobalConstants.WORD_ERROR_XML_TPL, javaProjectBuilder);
-			DocUtil.copyAndReplaceDocx(errorCodeDocTemplate.render(),
+			DocUtil.copyAndReplaceDocx(errorCodeDocTemplate,
 					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + BUILD_ERROR_DOCX, TEMPLATE_DOCX);
 
 			Template directoryDataDocTemplate = builderTemplate.buildDirectoryDataDocTemplate(config,
 					javaProjectBuilder, DocGlobalConstants.WORD_DICT_XML_TPL);
-			DocUtil.copyAndReplaceDocx(directoryDataDocTemplate.render(),
+			DocUtil.copyAndReplaceDocx(directoryDataDocTemplate,
 					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + BUILD_DICT_DOCX, TEMPLATE_DOCX);
 		}
 	}
@@ -32,7 +32,6 @@ import io.github.smartdoc.model.grpc.GrpcApiDoc;
 import io.github.smartdoc.utils.BeetlTemplateUtil;
 import io.github.smartdoc.utils.DocUtil;
 import com.power.common.util.CollectionUtil;
-import com.power.common.util.FileUtil;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.beetl.core.Template;
@@ -65,7 +64,7 @@ public class GrpcDocBuilderTemplate implements IRpcDocBuilderTemplate<GrpcApiDoc
 
 	@Override
 	public void writeApiDocFile(Template mapper, ApiConfig config, GrpcApiDoc rpcDoc, String fileExtension) {
-		FileUtil.nioWriteFile(mapper.render(),
+		BeetlTemplateUtil.renderToFile(mapper,
 				config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + rpcDoc.getName() + fileExtension);
 	}
 
@@ -93,7 +92,7 @@ public class GrpcDocBuilderTemplate implements IRpcDocBuilderTemplate<GrpcApiDoc
 		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
 		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 		tpl.binding(TemplateVariable.DIRECTORY_TREE.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		BeetlTemplateUtil.renderToFile(tpl, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
 }
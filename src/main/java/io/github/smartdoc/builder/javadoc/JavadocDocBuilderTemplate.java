@@ -36,6 +36,7 @@ import io.github.smartdoc.model.javadoc.JavadocApiDoc;
 import io.github.smartdoc.template.IDocBuildTemplate;
 import io.github.smartdoc.utils.BeetlTemplateUtil;
 import io.github.smartdoc.utils.DocUtil;
+import io.github.smartdoc.utils.ParallelUtil;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.FileUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
@@ -74,16 +75,16 @@ public class JavadocDocBuilderTemplate implements IBaseDocBuilderTemplate<Javado
 	 */
 	public void buildApiDoc(List<JavadocApiDoc> apiDocList, ApiConfig config, String template, String fileExtension) {
 		FileUtil.mkdirs(config.getOutPath());
-		for (JavadocApiDoc apiDoc : apiDocList) {
+		ParallelUtil.forEach(apiDocList, config.getRenderThreads(), "render", apiDoc -> {
 			Template mapper = BeetlTemplateUtil.getByName(template);
 			mapper.binding(TemplateVariable.NAME.getVariable(), apiDoc.getName());
 			mapper.binding(TemplateVariable.DESC.getVariable(), apiDoc.getDesc());
 			mapper.binding(TemplateVariable.LIST.getVariable(), apiDoc.getList());
 			mapper.binding(TemplateVariable.AUTHOR.getVariable(), apiDoc.getAuthor());
 			mapper.binding(TemplateVariable.VERSION.getVariable(), apiDoc.getVersion());
-			FileUtil.nioWriteFile(mapper.render(),
+			BeetlTemplateUtil.renderToFile(mapper,
 					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + apiDoc.getShortName() + fileExtension);
-		}
+		});
 	}
 
 	/**
@@ -103,7 +104,7 @@ public class JavadocDocBuilderTemplate implements IBaseDocBuilderTemplate<Javado
 		// binding common variable
 		this.bindingCommonVariable(config, javaProjectBuilder, tpl, apiDocList.isEmpty());
 
-		FileUtil.nioWriteFile(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		BeetlTemplateUtil.renderToFile(tpl, outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
 	/**
@@ -143,7 +144,7 @@ public class JavadocDocBuilderTemplate implements IBaseDocBuilderTemplate<Javado
 		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
 		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 		tpl.binding(TemplateVariable.DIRECTORY_TREE.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		BeetlTemplateUtil.renderToFile(tpl, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
 	/**
@@ -38,7 +38,7 @@ import io.github.smartdoc.model.ApiMethodDoc;
 import io.github.smartdoc.model.ApiParam;
 import io.github.smartdoc.model.ApiReqParam;
 import io.github.smartdoc.model.ApiSchema;
-import io.github.smartdoc.model.DocMapping;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.model.TagDoc;
 import io.github.smartdoc.model.openapi.OpenApiTag;
 import io.github.smartdoc.template.IDocBuildTemplate;
@@ -48,15 +48,20 @@ import com.power.common.util.CollectionUtil;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -151,16 +156,6 @@ public abstract class AbstractOpenApiBuilder {
 	 */
 	abstract public Map<String, Object> buildComponentsSchema(ApiSchema<ApiDoc> apiSchema);
 
-	/**
-	 * String component
-	 */
-	protected static final Map<String, String> STRING_COMPONENT = new HashMap<>();
-
-	static {
-		STRING_COMPONENT.put("type", "string");
-		STRING_COMPONENT.put("format", "string");
-	}
-
 	/**
 	 * Build openapi paths
 	 * @param apiConfig Configuration of smart-doc
@@ -169,44 +164,137 @@ public abstract class AbstractOpenApiBuilder {
 	 * @param isSwagger is swagger
 	 * @return Map of paths
 	 */
-	@SuppressWarnings("unchecked")
 	public Map<String, Object> buildPaths(ApiConfig apiConfig, ApiSchema<ApiDoc> apiSchema, Set<OpenApiTag> tags,
 			boolean isSwagger) {
 		Map<String, Object> pathMap = new LinkedHashMap<>(500);
+		this.forEachPath(apiConfig, apiSchema, isSwagger, pathMap::put);
+		tags.addAll(this.buildOpenApiTags(apiConfig, apiSchema));
+		return pathMap;
+	}
 
-		List<ApiDoc> apiDocs = apiSchema.getApiDatas();
-		for (ApiDoc apiDoc : apiDocs) {
+	/**
+	 * Build the openapi paths one by one. The operations are built in the order of the
+	 * methods, so the operation ids and the component names are numbered as before, and
+	 * the operations of a path are merged. A path is passed to the consumer once the last
+	 * method of the path is built, so only the pending paths are held in memory.
+	 * @param apiConfig Configuration of smart-doc
+	 * @param apiSchema Project API schema
+	 * @param isSwagger is swagger
+	 * @param consumer consumer of the path and its operations
+	 */
+	public void forEachPath(ApiConfig apiConfig, ApiSchema<ApiDoc> apiSchema, boolean isSwagger,
+			BiConsumer<String, Map<String, Object>> consumer) {
+		List<ApiMethodDoc> methodDocs = new ArrayList<>();
+		List<List<String>> methodPaths = new ArrayList<>();
+		// key: path value: index of the last method of the path
+		Map<String, Integer> lastMethods = new HashMap<>(500);
+		for (ApiDoc apiDoc : apiSchema.getApiDatas()) {
 			if (CollectionUtil.isEmpty(apiDoc.getList())) {
 				continue;
 			}
 			for (ApiMethodDoc methodDoc : apiDoc.getList()) {
-				String[] paths = methodDoc.getPath().split(";");
-				for (String path : paths) {
+				List<String> paths = new ArrayList<>();
+				for (String path : methodDoc.getPath().split(";")) {
 					path = path.trim();
 					if (StringUtil.isNotEmpty(apiConfig.getPathPrefix()) && isSwagger) {
 						path = path.replace(apiConfig.getPathPrefix(), "");
 					}
-					Map<String, Object> request = this.buildPathUrls(apiConfig, methodDoc, methodDoc.getClazzDoc(),
-							apiSchema.getApiExceptionStatuses());
-					if (!pathMap.containsKey(path)) {
-						pathMap.put(path, request);
-					}
-					else {
-						Map<String, Object> oldRequest = (Map<String, Object>) pathMap.get(path);
-						oldRequest.putAll(request);
-					}
+					paths.add(path);
+					lastMethods.put(path, methodDocs.size());
+				}
+				methodDocs.add(methodDoc);
+				methodPaths.add(paths);
+			}
+		}
+		Map<String, Map<String, Object>> pathMap = new LinkedHashMap<>(16);
+		for (int i = 0; i < methodDocs.size(); i++) {
+			ApiMethodDoc methodDoc = methodDocs.get(i);
+			for (String path : methodPaths.get(i)) {
+				Map<String, Object> request = this.buildPathUrls(apiConfig, methodDoc, methodDoc.getClazzDoc(),
+						apiSchema.getApiExceptionStatuses());
+				Map<String, Object> oldRequest = pathMap.putIfAbsent(path, request);
+				if (Objects.nonNull(oldRequest)) {
+					oldRequest.putAll(request);
 				}
 			}
+			// pass on the complete paths in the order of their first method
+			Iterator<Map.Entry<String, Map<String, Object>>> iterator = pathMap.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<String, Map<String, Object>> entry = iterator.next();
+				if (lastMethods.get(entry.getKey()) > i) {
+					break;
+				}
+				consumer.accept(entry.getKey(), entry.getValue());
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Build openapi tags from the tags registered to the methods of the schema
+	 * @param apiConfig Configuration of smart-doc
+	 * @param apiSchema Project API schema
+	 * @return Set of tags
+	 */
+	public Set<OpenApiTag> buildOpenApiTags(ApiConfig apiConfig, ApiSchema<ApiDoc> apiSchema) {
+		Set<TagDoc> tagDocs = new LinkedHashSet<>();
+		for (ApiDoc apiDoc : apiSchema.getApiDatas()) {
+			if (CollectionUtil.isEmpty(apiDoc.getList())) {
+				continue;
+			}
+			for (ApiMethodDoc methodDoc : apiDoc.getList()) {
+				tagDocs.addAll(methodDoc.getTagRefs());
+			}
 		}
-		for (Map.Entry<String, TagDoc> docEntry : DocMapping.TAG_DOC.entrySet()) {
-			tags.addAll(docEntry.getValue()
-				.getClazzDocs()
+		Set<OpenApiTag> tags = new HashSet<>();
+		for (TagDoc tagDoc : tagDocs) {
+			tags.addAll(tagDoc.getClazzDocs()
 				.stream()
 				// optimize tag content for compatible to swagger
 				.map(doc -> OpenApiTag.of(apiConfig.getOpenApiTagNameType(), doc))
 				.collect(Collectors.toSet()));
 		}
-		return pathMap;
+		return tags;
+	}
+
+	/**
+	 * Write the document, the paths are written as they are built.
+	 * @param apiConfig Configuration of smart-doc
+	 * @param apiSchema Project API schema
+	 * @param header the entries before the tags
+	 * @param isSwagger is swagger
+	 */
+	protected void writeOpenApi(ApiConfig apiConfig, ApiSchema<ApiDoc> apiSchema, Map<String, Object> header,
+			boolean isSwagger) {
+		// the component names and operation ids are numbered per document
+		DocBuildContext previous = DocBuildContext.bind(new DocBuildContext(apiConfig));
+		try (OpenApiWriter writer = OpenApiWriter.create(apiConfig)) {
+			writer.beginObject(null);
+			writer.writeAll(header);
+			writer.write("tags", this.buildOpenApiTags(apiConfig, apiSchema));
+			writer.beginObject("paths");
+			this.forEachPath(apiConfig, apiSchema, isSwagger, writer::write);
+			writer.endObject();
+			if (isSwagger) {
+				writer.beginObject("definitions");
+			}
+			else {
+				writer.beginObject("components");
+				writer.beginObject("schemas");
+			}
+			writer.writeAll(this.buildComponentData(apiSchema));
+			writer.endObject();
+			if (!isSwagger) {
+				writer.endObject();
+			}
+			writer.endObject();
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to write the openapi document", e);
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
 	}
 
 	/**
@@ -259,7 +347,7 @@ public abstract class AbstractOpenApiBuilder {
 			content.put("schema", apiMethodDoc.getRequestSchema());
 		}
 		else {
-			content.put("schema", this.buildBodySchema(apiMethodDoc, isRep));
+			content.put("schema", this.buildBodySchema(apiConfig, apiMethodDoc, isRep));
 		}
 
 		if (OPENAPI_2_COMPONENT_KRY.equals(componentKey) && !isRep) {
@@ -275,11 +363,12 @@ public abstract class AbstractOpenApiBuilder {
 
 	/**
 	 * Build schema of Body
+	 * @param apiConfig ApiConfig
 	 * @param apiMethodDoc ApiMethodDoc
 	 * @param isRep is response
 	 * @return Map of schema
 	 */
-	public Map<String, Object> buildBodySchema(ApiMethodDoc apiMethodDoc, boolean isRep) {
+	public Map<String, Object> buildBodySchema(ApiConfig apiConfig, ApiMethodDoc apiMethodDoc, boolean isRep) {
 		Map<String, Object> schema = new HashMap<>(10);
 		Map<String, Object> innerScheme = new HashMap<>(10);
 		// For response
@@ -299,7 +388,7 @@ public abstract class AbstractOpenApiBuilder {
 
 		// for request
 		String requestRef;
-		String randomName = ComponentTypeEnum.getRandomName(ApiConfig.getInstance().getComponentType(), apiMethodDoc);
+		String randomName = ComponentTypeEnum.getRandomName(apiConfig.getComponentType(), apiMethodDoc);
 		if (Methods.POST.getValue().equals(apiMethodDoc.getType())
 				&& (apiMethodDoc.getContentType().equals(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
 						|| apiMethodDoc.getContentType().equals(MediaType.MULTIPART_FORM_DATA_VALUE))) {
@@ -554,7 +643,7 @@ public abstract class AbstractOpenApiBuilder {
 						propertiesData.put("description", apiParam.getDesc() + "(object)");
 					}
 					else {
-						component.put(childSchemaName, this.buildProperties(apiParam.getChildren(), component, isResp));
+						this.putComponent(component, childSchemaName, apiParam.getChildren(), isResp);
 						arrayRef.put("$ref", componentKey + childSchemaName);
 						propertiesData.put("items", arrayRef);
 					}
@@ -579,7 +668,7 @@ public abstract class AbstractOpenApiBuilder {
 						propertiesData.put("type", "object");
 					}
 					else {
-						component.put(childSchemaName, this.buildProperties(apiParam.getChildren(), component, isResp));
+						this.putComponent(component, childSchemaName, apiParam.getChildren(), isResp);
 						propertiesData.put("$ref", componentKey + childSchemaName);
 					}
 				}
@@ -595,6 +684,22 @@ public abstract class AbstractOpenApiBuilder {
 		return propertiesData;
 	}
 
+	/**
+	 * Register the component schema of the params. The component names identify the
+	 * structure of the params, a registered schema of the same name is identical so it
+	 * isn't built again.
+	 * @param component component
+	 * @param name component name
+	 * @param apiParams params of the component
+	 * @param isResp is response
+	 */
+	private void putComponent(Map<String, Object> component, String name, List<ApiParam> apiParams, boolean isResp) {
+		if (component.containsKey(name) && !DocGlobalConstants.DEFAULT_PRIMITIVE.equals(name)) {
+			return;
+		}
+		component.put(name, this.buildProperties(apiParams, component, isResp));
+	}
+
 	/**
 	 * Builds component data for API documentation. This method iterates through all API
 	 * documentation entries to extract request and response parameter information, and
@@ -604,19 +709,20 @@ public abstract class AbstractOpenApiBuilder {
 	 */
 	public Map<String, Object> buildComponentData(ApiSchema<ApiDoc> apiSchema) {
 		Map<String, Object> component = new HashMap<>(16);
-		component.put(DocGlobalConstants.DEFAULT_PRIMITIVE, STRING_COMPONENT);
+		DocBuildContext context = DocBuildContext.current();
+		component.put(DocGlobalConstants.DEFAULT_PRIMITIVE,
+				Objects.isNull(context) ? DocBuildContext.newStringComponent() : context.getStringComponent());
 		apiSchema.getApiDatas().forEach(entrypoint -> {
 			List<ApiMethodDoc> apiMethodDocs = entrypoint.getList();
 			apiMethodDocs.forEach(method -> {
 				// request components
 				String requestSchema = OpenApiSchemaUtil.getClassNameFromParams(method.getRequestParams());
 				List<ApiParam> requestParams = method.getRequestParams();
-				Map<String, Object> prop = this.buildProperties(requestParams, component, false);
-				component.put(requestSchema, prop);
+				this.putComponent(component, requestSchema, requestParams, false);
 				// response components
 				List<ApiParam> responseParams = method.getResponseParams();
 				String responseSchemaName = OpenApiSchemaUtil.getClassNameFromParams(method.getResponseParams());
-				component.put(responseSchemaName, this.buildProperties(responseParams, component, true));
+				this.putComponent(component, responseSchemaName, responseParams, true);
 			});
 		});
 		// Exception response components
@@ -624,7 +730,7 @@ public abstract class AbstractOpenApiBuilder {
 			apiSchema.getApiExceptionStatuses().forEach(e -> {
 				List<ApiParam> responseParams = e.getExceptionResponseParams();
 				String responseSchemaName = OpenApiSchemaUtil.getClassNameFromParams(e.getExceptionResponseParams());
-				component.put(responseSchemaName, this.buildProperties(responseParams, component, true));
+				this.putComponent(component, responseSchemaName, responseParams, true);
 			});
 		}
 		component.remove(OpenApiSchemaUtil.NO_BODY_PARAM);
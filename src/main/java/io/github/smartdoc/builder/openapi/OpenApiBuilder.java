@@ -34,23 +34,19 @@ import io.github.smartdoc.model.ApiMethodDoc;
 import io.github.smartdoc.model.ApiParam;
 import io.github.smartdoc.model.ApiReqParam;
 import io.github.smartdoc.model.ApiSchema;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.model.TagDoc;
-import io.github.smartdoc.model.openapi.OpenApiTag;
-import io.github.smartdoc.utils.JsonUtil;
 import io.github.smartdoc.utils.OpenApiSchemaUtil;
 import com.power.common.util.CollectionUtil;
-import com.power.common.util.FileUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  *
@@ -66,11 +62,6 @@ public class OpenApiBuilder extends AbstractOpenApiBuilder {
 	 */
 	private static final OpenApiBuilder INSTANCE = new OpenApiBuilder();
 
-	/**
-	 * OperationId OrderNo Map
-	 */
-	private static final Map<String, Integer> OPERATIONID_ORDER_NO_MAP = new HashMap<>();
-
 	/**
 	 * private constructor
 	 */
@@ -96,6 +87,16 @@ public class OpenApiBuilder extends AbstractOpenApiBuilder {
 		INSTANCE.openApiCreate(config, apiSchema);
 	}
 
+	/**
+	 * Render the document from the analyzed api data, the params must be analyzed as
+	 * tree.
+	 * @param config Configuration of smart-doc
+	 * @param apiSchema analyzed api data
+	 */
+	public static void buildOpenApi(ApiConfig config, ApiSchema<ApiDoc> apiSchema) {
+		INSTANCE.openApiCreate(config, apiSchema);
+	}
+
 	@Override
 	public String getModuleName() {
 		return DocGlobalConstants.OPENAPI_3_COMPONENT_KRY;
@@ -108,15 +109,7 @@ public class OpenApiBuilder extends AbstractOpenApiBuilder {
 		json.put("openapi", "3.1.0");
 		json.put("info", buildInfo(config));
 		json.put("servers", buildServers(config));
-		Set<OpenApiTag> tags = new HashSet<>();
-		json.put("tags", tags);
-		json.put("paths", this.buildPaths(config, apiSchema, tags, false));
-		json.put("components", this.buildComponentsSchema(apiSchema));
-
-		String filePath = config.getOutPath();
-		filePath = filePath + DocGlobalConstants.OPEN_API_JSON;
-		String data = JsonUtil.toPrettyJson(json);
-		FileUtil.nioWriteFile(data, filePath);
+		this.writeOpenApi(config, apiSchema, json, false);
 	}
 
 	/**
@@ -180,15 +173,8 @@ public class OpenApiBuilder extends AbstractOpenApiBuilder {
 
 		// add operationId
 		String methodName = apiMethodDoc.getMethodName();
-		if (OPERATIONID_ORDER_NO_MAP.containsKey(methodName)) {
-			int order = OPERATIONID_ORDER_NO_MAP.get(methodName);
-			request.put("operationId", methodName + "_" + order);
-			OPERATIONID_ORDER_NO_MAP.put(methodName, order + 1);
-		}
-		else {
-			request.put("operationId", methodName);
-			OPERATIONID_ORDER_NO_MAP.put(methodName, 1);
-		}
+		DocBuildContext context = DocBuildContext.current();
+		request.put("operationId", Objects.isNull(context) ? methodName : context.nextOperationId(methodName));
 
 		// add extension attribution
 		if (apiMethodDoc.getExtensions() != null) {
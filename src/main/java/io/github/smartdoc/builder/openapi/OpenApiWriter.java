@@ -0,0 +1,354 @@
+/*
+ * smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.builder.openapi;
+
+import io.github.smartdoc.constants.DocGlobalConstants;
+import io.github.smartdoc.model.ApiConfig;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Streaming writer of the openapi document.
+ * <p>
+ * The document is written to the file entry by entry, each entry is serialized on its
+ * own, so only the entry being written is held in memory instead of the whole document.
+ * The document is written as pretty printed json by default, the compact json and the
+ * yaml output are enabled by {@link ApiConfig#isOpenApiCompact()} and
+ * {@link ApiConfig#isOpenApiYaml()}.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public abstract class OpenApiWriter implements Closeable {
+
+	private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+	/**
+	 * target writer
+	 */
+	protected final Writer out;
+
+	private OpenApiWriter(Writer out) {
+		this.out = out;
+	}
+
+	/**
+	 * Create the writer of the openapi file in the outPath.
+	 * @param config Configuration of smart-doc
+	 * @return OpenApiWriter
+	 */
+	public static OpenApiWriter create(ApiConfig config) {
+		String fileName = config.isOpenApiYaml() ? DocGlobalConstants.OPEN_API_YAML : DocGlobalConstants.OPEN_API_JSON;
+		Path path = Paths.get(config.getOutPath() + fileName);
+		try {
+			if (path.getParent() != null) {
+				Files.createDirectories(path.getParent());
+			}
+			Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+			if (config.isOpenApiYaml()) {
+				return new YamlWriter(out);
+			}
+			return new JsonStreamWriter(out, config.isOpenApiCompact());
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to create the openapi file " + path, e);
+		}
+	}
+
+	/**
+	 * Begin an object.
+	 * @param name name of the object, null for the document root
+	 */
+	public void beginObject(String name) {
+		try {
+			this.doBeginObject(name);
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to write the openapi document", e);
+		}
+	}
+
+	/**
+	 * End the current object.
+	 */
+	public void endObject() {
+		try {
+			this.doEndObject();
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to write the openapi document", e);
+		}
+	}
+
+	/**
+	 * Write an entry of the current object, null values are skipped.
+	 * @param name name of the entry
+	 * @param value value of the entry, a map, collection, array, pojo or primitive
+	 */
+	public void write(String name, Object value) {
+		JsonElement element = GSON.toJsonTree(value);
+		if (element.isJsonNull()) {
+			return;
+		}
+		try {
+			this.doWrite(name, element);
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to write the openapi document", e);
+		}
+	}
+
+	/**
+	 * Write the entries of the map to the current object, each entry is removed from the
+	 * map once it is written.
+	 * @param entries entries to write
+	 */
+	public void writeAll(Map<String, Object> entries) {
+		Iterator<Map.Entry<String, Object>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Object> entry = iterator.next();
+			this.write(entry.getKey(), entry.getValue());
+			iterator.remove();
+		}
+	}
+
+	protected abstract void doBeginObject(String name) throws IOException;
+
+	protected abstract void doEndObject() throws IOException;
+
+	protected abstract void doWrite(String name, JsonElement element) throws IOException;
+
+	/**
+	 * Json output.
+	 */
+	private static class JsonStreamWriter extends OpenApiWriter {
+
+		/**
+		 * json writer
+		 */
+		private final JsonWriter writer;
+
+		JsonStreamWriter(Writer out, boolean compact) {
+			super(out);
+			this.writer = new JsonWriter(out);
+			if (!compact) {
+				// same format as the pretty printing of gson
+				this.writer.setIndent("  ");
+			}
+		}
+
+		@Override
+		protected void doBeginObject(String name) throws IOException {
+			if (name != null) {
+				writer.name(name);
+			}
+			writer.beginObject();
+		}
+
+		@Override
+		protected void doEndObject() throws IOException {
+			writer.endObject();
+		}
+
+		@Override
+		protected void doWrite(String name, JsonElement element) throws IOException {
+			writer.name(name);
+			GSON.toJson(element, writer);
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.close();
+		}
+
+	}
+
+	/**
+	 * Yaml output, the strings are written as double-quoted scalars which accept the json
+	 * escapes.
+	 */
+	private static class YamlWriter extends OpenApiWriter {
+
+		/**
+		 * indentation of the entries of the current object
+		 */
+		private int depth;
+
+		/**
+		 * whether the key of the current object is written and its value is not
+		 */
+		private boolean open;
+
+		YamlWriter(Writer out) {
+			super(out);
+		}
+
+		@Override
+		protected void doBeginObject(String name) throws IOException {
+			if (name == null) {
+				return;
+			}
+			this.writeKey(name);
+			open = true;
+			depth++;
+		}
+
+		@Override
+		protected void doEndObject() throws IOException {
+			if (open) {
+				out.write(" {}\n");
+				open = false;
+			}
+			depth--;
+		}
+
+		@Override
+		protected void doWrite(String name, JsonElement element) throws IOException {
+			this.writeKey(name);
+			this.writeValue(element, depth + 1);
+		}
+
+		@Override
+		public void close() throws IOException {
+			out.close();
+		}
+
+		private void writeKey(String name) throws IOException {
+			if (open) {
+				out.write('\n');
+				open = false;
+			}
+			this.indent(depth);
+			out.write(GSON.toJson(new JsonPrimitive(name)));
+			out.write(':');
+		}
+
+		/**
+		 * Write the value following its key.
+		 * @param element value
+		 * @param depth indentation of the nested entries
+		 * @throws IOException if the file can't be written
+		 */
+		private void writeValue(JsonElement element, int depth) throws IOException {
+			if (isEmpty(element)) {
+				out.write(' ');
+				this.writeScalar(element);
+				return;
+			}
+			out.write('\n');
+			if (element.isJsonObject()) {
+				for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+					this.indent(depth);
+					out.write(GSON.toJson(new JsonPrimitive(entry.getKey())));
+					out.write(':');
+					this.writeValue(entry.getValue(), depth + 1);
+				}
+				return;
+			}
+			for (JsonElement item : element.getAsJsonArray()) {
+				this.indent(depth);
+				out.write('-');
+				this.writeItem(item, depth + 1);
+			}
+		}
+
+		/**
+		 * Write the item following its dash.
+		 * @param element item
+		 * @param depth indentation of the item content
+		 * @throws IOException if the file can't be written
+		 */
+		private void writeItem(JsonElement element, int depth) throws IOException {
+			if (isEmpty(element)) {
+				out.write(' ');
+				this.writeScalar(element);
+				return;
+			}
+			boolean first = true;
+			if (element.isJsonObject()) {
+				for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+					if (first) {
+						out.write(' ');
+						first = false;
+					}
+					else {
+						this.indent(depth);
+					}
+					out.write(GSON.toJson(new JsonPrimitive(entry.getKey())));
+					out.write(':');
+					this.writeValue(entry.getValue(), depth + 1);
+				}
+				return;
+			}
+			for (JsonElement item : element.getAsJsonArray()) {
+				if (first) {
+					out.write(' ');
+					first = false;
+				}
+				else {
+					this.indent(depth);
+				}
+				out.write('-');
+				this.writeItem(item, depth + 1);
+			}
+		}
+
+		private void writeScalar(JsonElement element) throws IOException {
+			out.write(GSON.toJson(element));
+			out.write('\n');
+		}
+
+		private void indent(int depth) throws IOException {
+			for (int i = 0; i < depth; i++) {
+				out.write("  ");
+			}
+		}
+
+		private static boolean isEmpty(JsonElement element) {
+			if (element.isJsonObject()) {
+				return ((JsonObject) element).size() == 0;
+			}
+			if (element.isJsonArray()) {
+				return ((JsonArray) element).size() == 0;
+			}
+			return true;
+		}
+
+	}
+
+}
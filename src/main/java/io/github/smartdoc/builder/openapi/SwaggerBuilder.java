@@ -33,22 +33,18 @@ import io.github.smartdoc.model.ApiMethodDoc;
 import io.github.smartdoc.model.ApiParam;
 import io.github.smartdoc.model.ApiReqParam;
 import io.github.smartdoc.model.ApiSchema;
-import io.github.smartdoc.model.openapi.OpenApiTag;
 import io.github.smartdoc.utils.DocUtil;
-import io.github.smartdoc.utils.JsonUtil;
 import com.power.common.util.CollectionUtil;
-import com.power.common.util.FileUtil;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -89,6 +85,16 @@ public class SwaggerBuilder extends AbstractOpenApiBuilder {
 		INSTANCE.openApiCreate(config, apiSchema);
 	}
 
+	/**
+	 * Render the document from the analyzed api data, the params must be analyzed as
+	 * tree.
+	 * @param config Configuration of smart-doc
+	 * @param apiSchema analyzed api data
+	 */
+	public static void buildOpenApi(ApiConfig config, ApiSchema<ApiDoc> apiSchema) {
+		INSTANCE.openApiCreate(config, apiSchema);
+	}
+
 	@Override
 	public String getModuleName() {
 		return DocGlobalConstants.OPENAPI_2_COMPONENT_KRY;
@@ -101,21 +107,13 @@ public class SwaggerBuilder extends AbstractOpenApiBuilder {
 	@Override
 	public void openApiCreate(ApiConfig config, ApiSchema<ApiDoc> apiSchema) {
 		this.setComponentKey(getModuleName());
-		Map<String, Object> json = new HashMap<>(8);
+		Map<String, Object> json = new LinkedHashMap<>(8);
 		json.put("swagger", "2.0");
 		json.put("info", buildInfo(config));
 		json.put("host", config.getServerUrl() == null ? "127.0.0.1" : config.getServerUrl());
 		json.put("basePath", StringUtils.isNotBlank(config.getPathPrefix()) ? config.getPathPrefix()
 				: DocGlobalConstants.PATH_DELIMITER);
-		Set<OpenApiTag> tags = new HashSet<>();
-		json.put("tags", tags);
-		json.put("paths", buildPaths(config, apiSchema, tags, true));
-		json.put("definitions", buildComponentsSchema(apiSchema));
-
-		String filePath = config.getOutPath();
-		filePath = filePath + DocGlobalConstants.OPEN_API_JSON;
-		String data = JsonUtil.toPrettyJson(json);
-		FileUtil.nioWriteFile(data, filePath);
+		this.writeOpenApi(config, apiSchema, json, true);
 	}
 
 	/**
@@ -93,8 +93,7 @@ public class RpcWordDocBuilder {
 					DocGlobalConstants.RPC_ALL_IN_ONE_WORD_TPL, docName);
 
 			String outPath = config.getOutPath();
-			DocUtil.copyAndReplaceDocx(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + docName,
-					TEMPLATE_DOCX);
+			DocUtil.copyAndReplaceDocx(tpl, outPath + DocGlobalConstants.FILE_SEPARATOR + docName, TEMPLATE_DOCX);
 		}
 
 	}
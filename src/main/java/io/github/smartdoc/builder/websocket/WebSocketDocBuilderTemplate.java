@@ -34,6 +34,7 @@ import io.github.smartdoc.model.WebSocketDoc;
 import io.github.smartdoc.template.IWebSocketDocBuildTemplate;
 import io.github.smartdoc.utils.BeetlTemplateUtil;
 import io.github.smartdoc.utils.DocUtil;
+import io.github.smartdoc.utils.ParallelUtil;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.FileUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
@@ -107,7 +108,7 @@ public class WebSocketDocBuilderTemplate implements IBaseDocBuilderTemplate<WebS
 		this.setCssCDN(config, tpl);
 		// binding common variable
 		this.bindingCommonVariable(config, javaProjectBuilder, tpl, webSocketDocList.isEmpty());
-		FileUtil.nioWriteFile(tpl.render(), outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		BeetlTemplateUtil.renderToFile(tpl, outPath + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
 	/**
@@ -120,11 +121,11 @@ public class WebSocketDocBuilderTemplate implements IBaseDocBuilderTemplate<WebS
 	public void buildWebSocketApiDoc(List<WebSocketDoc> apiDocList, ApiConfig config, String template,
 			String fileExtension) {
 		FileUtil.mkdirs(config.getOutPath());
-		for (WebSocketDoc doc : apiDocList) {
+		ParallelUtil.forEach(apiDocList, config.getRenderThreads(), "render", doc -> {
 			Template mapper = this.buildWebSocketApiDocTemplate(doc, config, template);
-			FileUtil.nioWriteFile(mapper.render(),
+			BeetlTemplateUtil.renderToFile(mapper,
 					config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + doc.getName() + fileExtension);
-		}
+		});
 	}
 
 	/**
@@ -178,7 +179,7 @@ public class WebSocketDocBuilderTemplate implements IBaseDocBuilderTemplate<WebS
 		List<ApiDocDict> apiDocDictList = DocUtil.buildDictionary(config, javaProjectBuilder);
 		tpl.binding(TemplateVariable.DICT_LIST.getVariable(), apiDocDictList);
 		tpl.binding(TemplateVariable.DIRECTORY_TREE.getVariable(), apiDocs);
-		FileUtil.nioWriteFile(tpl.render(), config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
+		BeetlTemplateUtil.renderToFile(tpl, config.getOutPath() + DocGlobalConstants.FILE_SEPARATOR + outPutFileName);
 	}
 
 }
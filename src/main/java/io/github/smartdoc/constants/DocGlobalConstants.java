@@ -359,6 +359,11 @@ public interface DocGlobalConstants {
 	 */
 	String OPEN_API_JSON = "/openapi.json";
 
+	/**
+	 * open api yaml.
+	 */
+	String OPEN_API_YAML = "/openapi.yaml";
+
 	/**
 	 * spring ModelAndView.
 	 */
@@ -514,11 +519,6 @@ public interface DocGlobalConstants {
 	 */
 	String DEFAULT_FILTER_METHOD = "*";
 
-	/**
-	 * jar temp path.
-	 */
-	String JAR_TEMP = "./smart-temp/";
-
 	/**
 	 * default primitive.
 	 */
@@ -0,0 +1,264 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiParam;
+import io.github.smartdoc.model.DocBuildContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Build scoped cache of the json examples and the params of the request and response
+ * types, so that a type used by many methods is analyzed once.
+ * <p>
+ * Only the top level calls of {@link JsonBuildHelper#buildJson} and
+ * {@link ParamsBuildHelper#buildParams} are cached, the nested calls depend on the
+ * classes registered by their parents. The cached params are never handed out, every hit
+ * gets a copy whose ids are renumbered from the id counter of the caller.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class ApiExampleCache {
+
+	private static final char KEY_SEPARATOR = '\u0001';
+
+	/**
+	 * key: type and options, value: compact json example
+	 */
+	private final Map<String, String> jsons = new ConcurrentHashMap<>(256);
+
+	/**
+	 * key: type and options, value: params with the ids of the first build
+	 */
+	private final Map<String, CachedParams> params = new ConcurrentHashMap<>(256);
+
+	private final AtomicLong jsonHitCount = new AtomicLong();
+
+	private final AtomicLong jsonMissCount = new AtomicLong();
+
+	private final AtomicLong paramHitCount = new AtomicLong();
+
+	private final AtomicLong paramMissCount = new AtomicLong();
+
+	/**
+	 * Get the cache of the build running in the current thread.
+	 * @return cache, or null if there is no build or the mock values are random
+	 */
+	public static ApiExampleCache current() {
+		DocBuildContext context = DocBuildContext.current();
+		if (Objects.isNull(context) || DocBuildContext.isRandomMock()) {
+			return null;
+		}
+		return context.getExampleCache();
+	}
+
+	/**
+	 * Build a cache key, the collections are sorted so that the key does not depend on
+	 * their order.
+	 * @param parts parts of the key
+	 * @return key
+	 */
+	public static String key(Object... parts) {
+		StringBuilder key = new StringBuilder(128);
+		for (Object part : parts) {
+			if (part instanceof Collection) {
+				key.append(new TreeSet<>((Collection<?>) part));
+			}
+			else {
+				key.append(part);
+			}
+			key.append(KEY_SEPARATOR);
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Build the key of the config settings the examples depend on, they change between
+	 * the analyses of one build when several formats are built together.
+	 * @param config ApiConfig
+	 * @return key
+	 */
+	public static String settingsKey(ApiConfig config) {
+		return key(config.getShowJavaType(), config.isDisplayActualType(), config.getInlineEnum());
+	}
+
+	/**
+	 * Get the json example, it is built by the builder on a miss.
+	 * @param key key of the type and options
+	 * @param builder builder of the json
+	 * @return json
+	 */
+	public String getJson(String key, Supplier<String> builder) {
+		String json = jsons.get(key);
+		if (Objects.nonNull(json)) {
+			jsonHitCount.incrementAndGet();
+			return json;
+		}
+		jsonMissCount.incrementAndGet();
+		// not computeIfAbsent, the builder may look up other keys of the cache
+		json = builder.get();
+		if (Objects.nonNull(json)) {
+			jsons.putIfAbsent(key, json);
+		}
+		return json;
+	}
+
+	/**
+	 * Get the params, they are built by the builder on a miss. When an id counter is
+	 * given, the ids of a hit are taken from it and the key must not contain the pid.
+	 * @param key key of the type and options
+	 * @param pid parent id of the top level params
+	 * @param atomicInteger id counter, nullable
+	 * @param builder builder of the params
+	 * @return params owned by the caller
+	 */
+	public List<ApiParam> getParams(String key, int pid, AtomicInteger atomicInteger,
+			Supplier<List<ApiParam>> builder) {
+		CachedParams cached = params.get(key);
+		if (Objects.nonNull(cached)) {
+			paramHitCount.incrementAndGet();
+			return cached.copy(pid, atomicInteger);
+		}
+		paramMissCount.incrementAndGet();
+		int start = Objects.isNull(atomicInteger) ? 0 : atomicInteger.get();
+		List<ApiParam> result = builder.get();
+		int end = Objects.isNull(atomicInteger) ? 0 : atomicInteger.get();
+		if (Objects.isNull(atomicInteger) || isRenumberable(result, pid, start, end)) {
+			params.putIfAbsent(key, new CachedParams(copyAll(result), pid, start, end));
+		}
+		return result;
+	}
+
+	public long getJsonHitCount() {
+		return jsonHitCount.get();
+	}
+
+	public long getJsonMissCount() {
+		return jsonMissCount.get();
+	}
+
+	public long getParamHitCount() {
+		return paramHitCount.get();
+	}
+
+	public long getParamMissCount() {
+		return paramMissCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "ApiExampleCache{" + "jsonSize=" + jsons.size() + ", jsonHitCount=" + getJsonHitCount()
+				+ ", jsonMissCount=" + getJsonMissCount() + ", paramSize=" + params.size() + ", paramHitCount="
+				+ getParamHitCount() + ", paramMissCount=" + getParamMissCount() + '}';
+	}
+
+	/**
+	 * Some params take their ids from the pid instead of the counter, they can't be
+	 * renumbered.
+	 */
+	private static boolean isRenumberable(List<ApiParam> result, int pid, int start, int end) {
+		if (pid > start) {
+			return false;
+		}
+		for (ApiParam param : result) {
+			if (!isRenumberable(param, pid, start, end)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isRenumberable(ApiParam param, int pid, int start, int end) {
+		if (param.getId() <= start || param.getId() > end) {
+			return false;
+		}
+		if (param.getPid() != pid && (param.getPid() <= start || param.getPid() > end)) {
+			return false;
+		}
+		if (Objects.nonNull(param.getChildren())) {
+			for (ApiParam child : param.getChildren()) {
+				if (!isRenumberable(child, pid, start, end)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static List<ApiParam> copyAll(List<ApiParam> result) {
+		List<ApiParam> copies = new ArrayList<>(result.size());
+		for (ApiParam param : result) {
+			copies.add(param.copy());
+		}
+		return copies;
+	}
+
+	/**
+	 * Params of the first build with the id range they took from the counter.
+	 */
+	private static class CachedParams {
+
+		private final List<ApiParam> params;
+
+		private final int pid;
+
+		private final int start;
+
+		private final int end;
+
+		CachedParams(List<ApiParam> params, int pid, int start, int end) {
+			this.params = params;
+			this.pid = pid;
+			this.start = start;
+			this.end = end;
+		}
+
+		List<ApiParam> copy(int newPid, AtomicInteger atomicInteger) {
+			List<ApiParam> copies = copyAll(params);
+			if (Objects.isNull(atomicInteger)) {
+				return copies;
+			}
+			int offset = atomicInteger.getAndAdd(end - start) - start;
+			for (ApiParam param : copies) {
+				param.traverseAndConsume(p -> {
+					p.setId(p.getId() + offset);
+					p.setPid(p.getPid() == pid ? newPid : p.getPid() + offset);
+				});
+			}
+			return copies;
+		}
+
+	}
+
+}
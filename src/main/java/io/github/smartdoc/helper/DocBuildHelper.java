@@ -22,21 +22,28 @@ package io.github.smartdoc.helper;
 
 import io.github.smartdoc.builder.ProjectDocConfigBuilder;
 import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.model.IDoc;
 import io.github.smartdoc.model.IMethod;
+import io.github.smartdoc.model.SourceCodePath;
 import io.github.smartdoc.model.dependency.ApiDependency;
 import io.github.smartdoc.model.dependency.DependencyTree;
 import io.github.smartdoc.model.dependency.FileDiff;
+import io.github.smartdoc.model.dependency.VcsChanges;
+import io.github.smartdoc.utils.JavaClassUtil;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaField;
 import com.thoughtworks.qdox.model.JavaType;
+import org.eclipse.jgit.api.Status;
 import org.eclipse.jgit.diff.DiffEntry;
 
 import java.io.File;
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 /**
@@ -47,6 +54,8 @@ import java.util.stream.Collectors;
  */
 public class DocBuildHelper {
 
+	private static final Logger log = Logger.getLogger(DocBuildHelper.class.getName());
+
 	/**
 	 * JavaProjectBuilder
 	 */
@@ -67,12 +76,22 @@ public class DocBuildHelper {
 	 */
 	private final GitHelper gitHelper = GitHelper.create();
 
+	/**
+	 * repository relative paths of the source code, the git steps are restricted to them
+	 */
+	private List<String> sourcePaths = Collections.emptyList();
+
 	/**
 	 * changed file list value set within {@link #getChangedFilesFromVCS(Predicate)} value
 	 * get within {@link #mergeDependencyTree(List)}
 	 */
 	private Set<FileDiff> fileDiffList;
 
+	/**
+	 * the build context, it keeps the changes of the sources
+	 */
+	private DocBuildContext buildContext;
+
 	/**
 	 * private constructor
 	 */
@@ -100,14 +119,131 @@ public class DocBuildHelper {
 		DocBuildHelper helper = new DocBuildHelper();
 		helper.projectBuilder = configBuilder.getJavaProjectBuilder();
 		helper.codePath = codePath;
+		helper.buildContext = configBuilder.getBuildContext();
 		// when is git repo
 		if (helper.gitHelper.isGitRepo()) {
 			helper.dependencyTree = DependencyTree.detect(baseDir, apiConfig.isIncrement());
+			helper.sourcePaths = getSourcePaths(helper.gitHelper, apiConfig);
 		}
 
 		return helper;
 	}
 
+	/**
+	 * Create a helper on a dependency tree without reading the VCS, for unit testing.
+	 * @param projectBuilder the project builder
+	 * @param dependencyTree the dependency tree of the last build
+	 * @return {@link DocBuildHelper}
+	 */
+	static DocBuildHelper create(JavaProjectBuilder projectBuilder, DependencyTree dependencyTree) {
+		DocBuildHelper helper = new DocBuildHelper();
+		helper.projectBuilder = projectBuilder;
+		helper.dependencyTree = dependencyTree;
+		return helper;
+	}
+
+	/**
+	 * Get the source files changed since the commit recorded in the dependency-tree-file,
+	 * including the uncommitted and untracked files.
+	 * @param apiConfig the api config
+	 * @param buildContext the build context, it keeps the changes for the analysis
+	 * @return the changed files, null if the project has not been built incrementally
+	 * before
+	 */
+	public static Set<File> getChangedSourceFiles(ApiConfig apiConfig, DocBuildContext buildContext) {
+		if (!apiConfig.isIncrement() || StringUtil.isEmpty(apiConfig.getBaseDir())) {
+			return null;
+		}
+		return getChangedSourceFiles(apiConfig, buildContext, GitHelper.create());
+	}
+
+	/**
+	 * Get the changed source files from a repository, for unit testing.
+	 * @param apiConfig the api config
+	 * @param buildContext the build context, it keeps the changes for the analysis
+	 * @param gitHelper the git helper of the repository
+	 * @return the changed files, null if the project has not been built incrementally
+	 * before
+	 */
+	static Set<File> getChangedSourceFiles(ApiConfig apiConfig, DocBuildContext buildContext, GitHelper gitHelper) {
+		if (gitHelper.notGitRepo()) {
+			return null;
+		}
+		DependencyTree dependencyTree = DependencyTree.detect(apiConfig.getBaseDir(), true);
+		if (Objects.isNull(dependencyTree) || StringUtil.isEmpty(dependencyTree.getCommitId())) {
+			return null;
+		}
+		VcsChanges changes = getVcsChanges(buildContext, gitHelper, dependencyTree.getCommitId(),
+				getSourcePaths(gitHelper, apiConfig));
+		File workDir = new File(gitHelper.getWorkDir());
+		Set<File> files = new HashSet<>();
+		for (DiffEntry entry : changes.getDiff()) {
+			if (!DiffEntry.DEV_NULL.equals(entry.getNewPath())) {
+				files.add(new File(workDir, entry.getNewPath()));
+			}
+		}
+		changes.getUncommitted().forEach(path -> files.add(new File(workDir, path)));
+		changes.getUntracked().forEach(path -> files.add(new File(workDir, path)));
+		return files;
+	}
+
+	/**
+	 * Get the changes of the source paths since the commit, the diff and the status are
+	 * computed on the first call of the build and kept in the build context.
+	 * @param buildContext the build context, null to compute the changes every time
+	 * @param gitHelper the git helper
+	 * @param commitId the commit of the last incremental build
+	 * @param sourcePaths repository relative paths of the source code
+	 * @return the changes
+	 */
+	private static VcsChanges getVcsChanges(DocBuildContext buildContext, GitHelper gitHelper, String commitId,
+			List<String> sourcePaths) {
+		VcsChanges changes = Objects.isNull(buildContext) ? null : buildContext.getVcsChanges();
+		if (Objects.nonNull(changes)) {
+			return changes;
+		}
+		List<DiffEntry> diff = gitHelper.getDiff(commitId, sourcePaths);
+		Status status = gitHelper.getStatus(sourcePaths);
+		changes = new VcsChanges(diff, status.getUncommittedChanges(), status.getUntracked());
+		log.info("Git steps of the build took " + gitHelper.getTimings() + " ms");
+		if (Objects.nonNull(buildContext)) {
+			buildContext.setVcsChanges(changes);
+		}
+		return changes;
+	}
+
+	/**
+	 * Get the repository relative paths of the source code, the configured source code
+	 * paths or the codePath of the baseDir.
+	 * @param gitHelper the git helper
+	 * @param apiConfig the api config
+	 * @return the paths, empty if a source path is out of the working tree
+	 */
+	private static List<String> getSourcePaths(GitHelper gitHelper, ApiConfig apiConfig) {
+		List<File> dirs = new ArrayList<>();
+		if (CollectionUtil.isNotEmpty(apiConfig.getSourceCodePaths())) {
+			apiConfig.getSourceCodePaths()
+				.stream()
+				.filter(Objects::nonNull)
+				.map(SourceCodePath::getPath)
+				.filter(StringUtil::isNotEmpty)
+				.forEach(path -> dirs.add(new File(path)));
+		}
+		else if (StringUtil.isNotEmpty(apiConfig.getBaseDir()) && StringUtil.isNotEmpty(apiConfig.getCodePath())) {
+			dirs.add(new File(apiConfig.getBaseDir(), apiConfig.getCodePath()));
+		}
+		List<String> paths = new ArrayList<>(dirs.size());
+		for (File dir : dirs) {
+			String path = gitHelper.getRepositoryPath(dir);
+			if (StringUtil.isEmpty(path)) {
+				// the whole repository is checked
+				return Collections.emptyList();
+			}
+			paths.add(path);
+		}
+		return paths;
+	}
+
 	/**
 	 * Read the dependency-tree-file from baseDir
 	 * @return DependencyTree instance
@@ -147,6 +283,10 @@ public class DocBuildHelper {
 		if (Objects.isNull(this.dependencyTree.getDependencyTree())) {
 			return new ArrayList<>();
 		}
+		if (Objects.isNull(this.fileDiffList)) {
+			// a full build replaces the dependency tree
+			return new ArrayList<>(newDependencyTree);
+		}
 		List<ApiDependency> oldDependencyTree = new ArrayList<>(this.dependencyTree.getDependencyTree());
 
 		// remove the deleted or deprecated dependencies
@@ -227,12 +367,13 @@ public class DocBuildHelper {
 	 * @return the set of changed files
 	 */
 	public Set<FileDiff> getChangedFilesFromVCS(Predicate<String> isEntryPoint) {
-		String commitId = dependencyTree.getCommitId();
-		List<DiffEntry> diff = new ArrayList<>(gitHelper.getDiff(commitId));
-		Set<String> uncommitted = new HashSet<>(gitHelper.getUncommitted());
-		Set<String> untracked = new HashSet<>(gitHelper.getUntracked());
+		VcsChanges changes = getVcsChanges(buildContext, gitHelper, dependencyTree.getCommitId(), sourcePaths);
+		List<DiffEntry> diff = new ArrayList<>(changes.getDiff());
+		Set<String> uncommitted = new HashSet<>(changes.getUncommitted());
+		Set<String> untracked = new HashSet<>(changes.getUntracked());
 
 		if (CollectionUtil.isEmpty(diff) && CollectionUtil.isEmpty(uncommitted) && CollectionUtil.isEmpty(untracked)) {
+			this.fileDiffList = Collections.emptySet();
 			return Collections.emptySet();
 		}
 
@@ -335,60 +476,58 @@ public class DocBuildHelper {
 
 	/**
 	 * Populate the related clazz and mark the entry point.
+	 * <p>
+	 * The dependency tree is indexed by the entry point classes and by the types
+	 * referenced by their apis, so each changed file is matched with hash lookups.
 	 * @param diffList the diff list
 	 * @param isEntryPoint the entry point predicate
 	 */
-	private void populateRelatedClazzAndMarkEntryPoint(Set<FileDiff> diffList, Predicate<String> isEntryPoint) {
+	void populateRelatedClazzAndMarkEntryPoint(Set<FileDiff> diffList, Predicate<String> isEntryPoint) {
 		List<ApiDependency> oldDependencyTree = this.dependencyTree.getDependencyTree();
 
 		if (CollectionUtil.isEmpty(oldDependencyTree)) {
 			return;
 		}
 
-		// foreach the exist dependency tree,
-		// check whether it is entry point if clazzName is matched and get the related
-		// entry points
-		oldDependencyTree.forEach(dependency -> {
+		// key: entry point class or its derived class, value: the entry point class
+		Map<String, String> entryPointIndex = new HashMap<>();
+		// key: referenced type, value: the entry point classes referencing it
+		Map<String, Set<String>> referenceIndex = new HashMap<>();
+		for (ApiDependency dependency : oldDependencyTree) {
 			String clazz = dependency.getClazz();
+			entryPointIndex.put(clazz, clazz);
+			if (CollectionUtil.isNotEmpty(dependency.getDerivedClazz())) {
+				dependency.getDerivedClazz().forEach(derived -> entryPointIndex.put(derived, clazz));
+			}
+			for (String type : getReferencedTypes(dependency)) {
+				referenceIndex.computeIfAbsent(type, key -> new HashSet<>()).add(clazz);
+			}
+		}
 
-			Optional<FileDiff> matchClazzOptional = diffList.stream().filter(item -> {
-				boolean equals = clazz.equals(item.getNewQualifiedName());
-				if (equals) {
-					return true;
-				}
-
-				List<String> derivedClazz = dependency.getDerivedClazz();
-				if (CollectionUtil.isEmpty(derivedClazz)) {
-					return false;
-				}
-
-				return dependency.getDerivedClazz().contains(item.getNewQualifiedName());
-			}).findFirst();
-			if (matchClazzOptional.isPresent()) {
+		Set<String> relatedClazz = new LinkedHashSet<>();
+		Set<String> changedEntryPoints = new HashSet<>();
+		for (FileDiff item : diffList) {
+			String entryPoint = entryPointIndex.get(item.getNewQualifiedName());
+			if (Objects.nonNull(entryPoint)) {
 				// mark the class is entry point(maybe now is not)
-				matchClazzOptional.get().setEntryPoint(true);
-				return;
+				item.setEntryPoint(true);
+				changedEntryPoints.add(entryPoint);
 			}
+			relatedClazz.addAll(referenceIndex.getOrDefault(item.getNewQualifiedName(), Collections.emptySet()));
+			if (Objects.nonNull(item.getOldQualifiedName())) {
+				// the referenced type is deleted or renamed
+				relatedClazz.addAll(referenceIndex.getOrDefault(item.getOldQualifiedName(), Collections.emptySet()));
+			}
+		}
+		relatedClazz.removeAll(changedEntryPoints);
+		for (String clazz : relatedClazz) {
+			FileDiff fileDiff = new FileDiff();
 
-			dependency.getApis().forEach(apiInfo -> {
-				boolean matchArgs = apiInfo.getArgs()
-					.stream()
-					.anyMatch(item -> diffList.stream().anyMatch(diff -> item.equals(diff.getNewQualifiedName())));
-
-				boolean matchReturns = apiInfo.getReturns()
-					.stream()
-					.anyMatch(item -> diffList.stream().anyMatch(diff -> item.equals(diff.getNewQualifiedName())));
-
-				if (matchArgs || matchReturns) {
-					FileDiff fileDiff = new FileDiff();
-
-					fileDiff.setChangeType(FileDiff.ChangeType.RELATED);
-					fileDiff.setNewQualifiedName(clazz);
-					fileDiff.setEntryPoint(true);
-					diffList.add(fileDiff);
-				}
-			});
-		});
+			fileDiff.setChangeType(FileDiff.ChangeType.RELATED);
+			fileDiff.setNewQualifiedName(clazz);
+			fileDiff.setEntryPoint(true);
+			diffList.add(fileDiff);
+		}
 
 		// check whether the others are entry point
 		diffList.stream().filter(item -> !item.isEntryPoint()).forEach(item -> {
@@ -397,6 +536,26 @@ public class DocBuildHelper {
 		});
 	}
 
+	/**
+	 * Get the types referenced by the apis of the entry point class. The dependency tree
+	 * written by the previous versions only records the args and returns of the apis.
+	 * @param dependency the api dependency
+	 * @return the referenced types
+	 */
+	private Collection<String> getReferencedTypes(ApiDependency dependency) {
+		if (Objects.nonNull(dependency.getTypes())) {
+			return dependency.getTypes();
+		}
+		Set<String> types = new HashSet<>();
+		if (CollectionUtil.isNotEmpty(dependency.getApis())) {
+			for (ApiDependency.ApiInfo apiInfo : dependency.getApis()) {
+				types.addAll(apiInfo.getArgs());
+				types.addAll(apiInfo.getReturns());
+			}
+		}
+		return types;
+	}
+
 	/**
 	 * Rebuilds the dependency tree.
 	 * @param <T> the type parameter representing the kind of document, which must extend
@@ -414,12 +573,21 @@ public class DocBuildHelper {
 	 * @param apiList a list containing API documents
 	 * @return a list of ApiDependency objects representing the built dependency tree
 	 */
-	private <T extends IDoc> List<ApiDependency> buildDependencyTree(List<T> apiList) {
+	<T extends IDoc> List<ApiDependency> buildDependencyTree(List<T> apiList) {
 		if (CollectionUtil.isEmpty(apiList)) {
 			return Collections.emptyList();
 		}
 
 		List<ApiDependency> dependencyTree = new ArrayList<>(apiList.size());
+		// the type references are shared by the apis, resolve each type once
+		Map<String, TypeReference> typeReferences = new HashMap<>();
+
+		// the docs restored from the snapshots keep their dependencies of the last build
+		Set<String> changedEntryPoints = Objects.isNull(this.fileDiffList) ? null
+				: this.fileDiffList.stream()
+					.filter(FileDiff::isEntryPoint)
+					.map(FileDiff::getNewQualifiedName)
+					.collect(Collectors.toSet());
 
 		for (T apiDoc : apiList) {
 			String docClass = apiDoc.getDocClass();
@@ -433,10 +601,15 @@ public class DocBuildHelper {
 				.map(JavaClass::getFullyQualifiedName)
 				.distinct()
 				.collect(Collectors.toList());
+			if (Objects.nonNull(changedEntryPoints) && !changedEntryPoints.contains(docClass)
+					&& derivedClazz.stream().noneMatch(changedEntryPoints::contains)) {
+				continue;
+			}
 
 			ApiDependency apiDependency = new ApiDependency(docClass, derivedClazz, apiInfoList);
 			dependencyTree.add(apiDependency);
 
+			Set<String> rootTypes = new HashSet<>();
 			for (IMethod docMethod : docMethods) {
 				String methodName = docMethod.getMethodName();
 				List<String> argsClasses = docMethod.getArgsClasses();
@@ -444,12 +617,99 @@ public class DocBuildHelper {
 				ApiDependency.ApiInfo apiInfo = new ApiDependency.ApiInfo(methodName, argsClasses, returnClasses);
 
 				apiInfoList.add(apiInfo);
+				rootTypes.addAll(argsClasses);
+				rootTypes.addAll(returnClasses);
 			}
+			apiDependency.setTypes(collectReferencedTypes(rootTypes, typeReferences));
 		}
 
 		return dependencyTree;
 	}
 
+	/**
+	 * Collect the source types transitively referenced by the root types through their
+	 * super types, fields and generic arguments.
+	 * @param rootTypes the args and returns of the apis
+	 * @param typeReferences resolved type references, key: type name
+	 * @return the sorted top level names of the referenced source types
+	 */
+	private List<String> collectReferencedTypes(Collection<String> rootTypes,
+			Map<String, TypeReference> typeReferences) {
+		Set<String> visited = new HashSet<>();
+		Set<String> types = new TreeSet<>();
+		Deque<String> queue = new ArrayDeque<>(rootTypes);
+		while (!queue.isEmpty()) {
+			String typeName = queue.poll();
+			if (!visited.add(typeName)) {
+				continue;
+			}
+			// the types which are not source types are cached as null
+			if (!typeReferences.containsKey(typeName)) {
+				typeReferences.put(typeName, resolveTypeReference(typeName));
+			}
+			TypeReference reference = typeReferences.get(typeName);
+			if (Objects.isNull(reference)) {
+				continue;
+			}
+			types.add(reference.topLevelName);
+			queue.addAll(reference.references);
+		}
+		return new ArrayList<>(types);
+	}
+
+	/**
+	 * Resolve the types directly referenced by a source type.
+	 * @param typeName the full qualified name or the binary name of the type
+	 * @return the type reference, null if the type is not a source type
+	 */
+	private TypeReference resolveTypeReference(String typeName) {
+		if (typeName.startsWith("java.")) {
+			return null;
+		}
+		JavaClass cls;
+		try {
+			cls = projectBuilder.getClassByName(typeName);
+		}
+		catch (Exception e) {
+			return null;
+		}
+		if (Objects.isNull(cls) || Objects.isNull(cls.getSource())) {
+			return null;
+		}
+		// the nested types are resolved by their binary name
+		String binaryName = cls.getBinaryName();
+		int index = binaryName.indexOf('$');
+		String topLevelName = index < 0 ? binaryName : binaryName.substring(0, index);
+		Set<String> references = new HashSet<>();
+		addTypeReference(references, cls.getSuperClass());
+		cls.getImplements().forEach(type -> addTypeReference(references, type));
+		for (JavaField field : cls.getFields()) {
+			if (!field.isStatic()) {
+				addTypeReference(references, field.getType());
+			}
+		}
+		return new TypeReference(topLevelName, references);
+	}
+
+	/**
+	 * Add the type and its generic arguments to the references.
+	 * @param references the references
+	 * @param type the type
+	 */
+	private void addTypeReference(Set<String> references, JavaType type) {
+		if (Objects.isNull(type)) {
+			return;
+		}
+		if (type instanceof JavaClass && ((JavaClass) type).isArray()) {
+			addTypeReference(references, ((JavaClass) type).getComponentType());
+			return;
+		}
+		references.add(type.getBinaryName());
+		for (JavaType actualType : JavaClassUtil.getActualTypes(type)) {
+			addTypeReference(references, actualType);
+		}
+	}
+
 	/**
 	 * Determines if the current project is not a Git repository.
 	 * @return true if the current project is not a Git repository, false otherwise.
@@ -458,4 +718,26 @@ public class DocBuildHelper {
 		return gitHelper.notGitRepo();
 	}
 
+	/**
+	 * The types directly referenced by a source type.
+	 */
+	private static class TypeReference {
+
+		/**
+		 * full qualified name of the top level type declaring the type
+		 */
+		private final String topLevelName;
+
+		/**
+		 * binary names of the referenced types
+		 */
+		private final Set<String> references;
+
+		private TypeReference(String topLevelName, Set<String> references) {
+			this.topLevelName = topLevelName;
+			this.references = references;
+		}
+
+	}
+
 }
@@ -0,0 +1,149 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.model.DocJavaField;
+import io.github.smartdoc.utils.JavaClassUtil;
+import com.thoughtworks.qdox.model.JavaClass;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Build-scoped cache of the flattened field model of a class. The same DTO hierarchy is
+ * referenced by many methods, flattening it once with
+ * {@link JavaClassUtil#getFields(JavaClass, int, Map, ClassLoader)} and reusing the
+ * result avoids walking the super classes and interfaces again for every reference.
+ * <p>
+ * Cached lists are unmodifiable, the callers only read the {@link DocJavaField} items.
+ * The cache is bounded and evicts the least recently used entry when it is full.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class DocJavaFieldCache {
+
+	/**
+	 * default max size of the cache
+	 */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+
+	/**
+	 * key: class generic fully qualified name, value: fields of the class
+	 */
+	private final Map<String, List<DocJavaField>> cache;
+
+	/**
+	 * cache hit counter
+	 */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/**
+	 * cache miss counter
+	 */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * class loader used to resolve the field types
+	 */
+	private final ClassLoader classLoader;
+
+	/**
+	 * Constructor
+	 * @param classLoader class loader used to resolve the field types
+	 */
+	public DocJavaFieldCache(ClassLoader classLoader) {
+		this(classLoader, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor
+	 * @param classLoader class loader used to resolve the field types
+	 * @param maxSize max entries kept in the cache
+	 */
+	public DocJavaFieldCache(ClassLoader classLoader, int maxSize) {
+		this.classLoader = classLoader;
+		this.cache = Collections.synchronizedMap(new LinkedHashMap<String, List<DocJavaField>>(64, 0.75F, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, List<DocJavaField>> eldest) {
+				return size() > maxSize;
+			}
+		});
+	}
+
+	/**
+	 * Get the fields of the class, the fields are resolved only once per build.
+	 * @param cls the JavaClass object
+	 * @return unmodifiable list of fields, empty if the class is null
+	 */
+	public List<DocJavaField> getFields(JavaClass cls) {
+		if (Objects.isNull(cls)) {
+			return Collections.emptyList();
+		}
+		String key = cls.getGenericFullyQualifiedName();
+		List<DocJavaField> fields = cache.get(key);
+		if (Objects.nonNull(fields)) {
+			hitCount.incrementAndGet();
+			return fields;
+		}
+		missCount.incrementAndGet();
+		fields = Collections.unmodifiableList(JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(), classLoader));
+		List<DocJavaField> previous = cache.putIfAbsent(key, fields);
+		return Objects.nonNull(previous) ? previous : fields;
+	}
+
+	/**
+	 * Clear the cache and the counters.
+	 */
+	public void clear() {
+		cache.clear();
+		hitCount.set(0);
+		missCount.set(0);
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	public int size() {
+		return cache.size();
+	}
+
+	@Override
+	public String toString() {
+		return "DocJavaFieldCache{" + "size=" + size() + ", hitCount=" + getHitCount() + ", missCount=" + getMissCount()
+				+ '}';
+	}
+
+}
@@ -0,0 +1,373 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.helper;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Word docx template which is read from the classpath only once.
+ * <p>
+ * The static entries of the template are deflated once when it is loaded, every output
+ * copies those bytes as they are. Only {@code word/document.xml} is compressed per
+ * output, it is streamed from the writer straight into the zip entry, so the rendered
+ * document is never held in memory.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class DocxTemplate {
+
+	/**
+	 * The entry replaced by the rendered document.
+	 */
+	public static final String DOCUMENT_ENTRY = "word/document.xml";
+
+	private static final Map<String, DocxTemplate> CACHE = new ConcurrentHashMap<>();
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final int LOCAL_HEADER = 0x04034b50;
+
+	private static final int DATA_DESCRIPTOR = 0x08074b50;
+
+	private static final int CENTRAL_HEADER = 0x02014b50;
+
+	private static final int END_OF_CENTRAL = 0x06054b50;
+
+	private static final int VERSION = 20;
+
+	/**
+	 * Flag of the entry whose crc and sizes follow the data.
+	 */
+	private static final int FLAG_DATA_DESCRIPTOR = 0x08;
+
+	private static final long MAX_ZIP32 = 0xFFFFFFFFL;
+
+	private final List<Entry> entries;
+
+	private DocxTemplate(List<Entry> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Get the cached docx template.
+	 * @param templateDocx classpath of the docx template
+	 * @return docx template
+	 */
+	public static DocxTemplate of(String templateDocx) {
+		return CACHE.computeIfAbsent(templateDocx, DocxTemplate::load);
+	}
+
+	/**
+	 * Write a docx whose document is the given content.
+	 * @param outputPath docx output path
+	 * @param content document content
+	 * @throws IOException if the docx can't be written
+	 */
+	public void write(String outputPath, String content) throws IOException {
+		write(outputPath, writer -> writer.write(content));
+	}
+
+	/**
+	 * Write a docx whose document is streamed by the given writer.
+	 * @param outputPath docx output path
+	 * @param documentWriter writes the document content
+	 * @throws IOException if the docx can't be written
+	 */
+	public void write(String outputPath, DocumentWriter documentWriter) throws IOException {
+		Path path = Paths.get(outputPath);
+		if (Objects.nonNull(path.getParent())) {
+			Files.createDirectories(path.getParent());
+		}
+		int dosTime = toDosTime(LocalDateTime.now());
+		List<Entry> written = new ArrayList<>(entries.size());
+		List<Long> offsets = new ArrayList<>(entries.size());
+		try (CountingOutputStream out = new CountingOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+			for (Entry entry : entries) {
+				offsets.add(out.count);
+				if (Objects.isNull(entry.data)) {
+					written.add(writeDocument(out, entry, dosTime, documentWriter));
+				}
+				else {
+					writeLocalHeader(out, entry, dosTime);
+					out.write(entry.data);
+					written.add(entry);
+				}
+			}
+			long centralOffset = out.count;
+			for (int i = 0; i < written.size(); i++) {
+				writeCentralHeader(out, written.get(i), dosTime, offsets.get(i));
+			}
+			long centralSize = out.count - centralOffset;
+			writeInt(out, END_OF_CENTRAL);
+			writeShort(out, 0);
+			writeShort(out, 0);
+			writeShort(out, written.size());
+			writeShort(out, written.size());
+			writeInt(out, centralSize);
+			writeInt(out, centralOffset);
+			writeShort(out, 0);
+		}
+	}
+
+	private static Entry writeDocument(CountingOutputStream out, Entry entry, int dosTime,
+			DocumentWriter documentWriter) throws IOException {
+		Entry document = new Entry(entry.name, ZipEntry.DEFLATED, FLAG_DATA_DESCRIPTOR, null);
+		writeLocalHeader(out, document, dosTime);
+		long start = out.count;
+		CRC32 crc = new CRC32();
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try {
+			DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
+			Writer writer = new BufferedWriter(
+					new OutputStreamWriter(new CheckedOutputStream(deflaterOut, crc), StandardCharsets.UTF_8),
+					BUFFER_SIZE);
+			documentWriter.write(writer);
+			writer.flush();
+			// finish the deflater without closing the zip stream
+			deflaterOut.finish();
+			document.size = deflater.getBytesRead();
+		}
+		finally {
+			deflater.end();
+		}
+		document.crc = crc.getValue();
+		document.compressedSize = out.count - start;
+		if (document.size > MAX_ZIP32 || document.compressedSize > MAX_ZIP32) {
+			throw new IOException("The document of the docx exceeds 4GB");
+		}
+		writeInt(out, DATA_DESCRIPTOR);
+		writeInt(out, document.crc);
+		writeInt(out, document.compressedSize);
+		writeInt(out, document.size);
+		return document;
+	}
+
+	private static void writeLocalHeader(OutputStream out, Entry entry, int dosTime) throws IOException {
+		writeInt(out, LOCAL_HEADER);
+		writeShort(out, VERSION);
+		writeShort(out, entry.flag);
+		writeShort(out, entry.method);
+		writeInt(out, dosTime);
+		writeInt(out, entry.crc);
+		writeInt(out, entry.compressedSize);
+		writeInt(out, entry.size);
+		writeShort(out, entry.name.length);
+		writeShort(out, 0);
+		out.write(entry.name);
+	}
+
+	private static void writeCentralHeader(OutputStream out, Entry entry, int dosTime, long offset) throws IOException {
+		writeInt(out, CENTRAL_HEADER);
+		writeShort(out, VERSION);
+		writeShort(out, VERSION);
+		writeShort(out, entry.flag);
+		writeShort(out, entry.method);
+		writeInt(out, dosTime);
+		writeInt(out, entry.crc);
+		writeInt(out, entry.compressedSize);
+		writeInt(out, entry.size);
+		writeShort(out, entry.name.length);
+		// extra field, comment, disk number, internal and external attributes
+		writeShort(out, 0);
+		writeShort(out, 0);
+		writeShort(out, 0);
+		writeShort(out, 0);
+		writeInt(out, 0);
+		writeInt(out, offset);
+		out.write(entry.name);
+	}
+
+	private static DocxTemplate load(String templateDocx) {
+		InputStream resourceAsStream = DocxTemplate.class.getClassLoader().getResourceAsStream(templateDocx);
+		Objects.requireNonNull(resourceAsStream, "word template docx is not found");
+		List<Entry> entries = new ArrayList<>();
+		boolean hasDocument = false;
+		try (ZipInputStream zipInputStream = new ZipInputStream(resourceAsStream)) {
+			ZipEntry zipEntry;
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+				byte[] name = zipEntry.getName().getBytes(StandardCharsets.UTF_8);
+				ByteArrayOutputStream content = new ByteArrayOutputStream();
+				int len;
+				while ((len = zipInputStream.read(buffer)) > 0) {
+					content.write(buffer, 0, len);
+				}
+				if (DOCUMENT_ENTRY.equals(zipEntry.getName())) {
+					entries.add(new Entry(name, ZipEntry.DEFLATED, FLAG_DATA_DESCRIPTOR, null));
+					hasDocument = true;
+				}
+				else {
+					entries.add(staticEntry(name, content.toByteArray()));
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to read the word template docx " + templateDocx, e);
+		}
+		if (!hasDocument) {
+			throw new RuntimeException("The word template docx has no " + DOCUMENT_ENTRY + ": " + templateDocx);
+		}
+		return new DocxTemplate(Collections.unmodifiableList(entries));
+	}
+
+	private static Entry staticEntry(byte[] name, byte[] content) {
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		Entry entry;
+		if (content.length == 0) {
+			entry = new Entry(name, ZipEntry.STORED, 0, content);
+		}
+		else {
+			Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+			try {
+				deflater.setInput(content);
+				deflater.finish();
+				byte[] buffer = new byte[BUFFER_SIZE];
+				while (!deflater.finished()) {
+					int len = deflater.deflate(buffer);
+					compressed.write(buffer, 0, len);
+				}
+			}
+			finally {
+				deflater.end();
+			}
+			entry = new Entry(name, ZipEntry.DEFLATED, 0, compressed.toByteArray());
+		}
+		entry.crc = crc.getValue();
+		entry.size = content.length;
+		entry.compressedSize = entry.data.length;
+		return entry;
+	}
+
+	private static int toDosTime(LocalDateTime time) {
+		if (time.getYear() < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+				| time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+	}
+
+	private static void writeShort(OutputStream out, int value) throws IOException {
+		out.write(value & 0xff);
+		out.write((value >>> 8) & 0xff);
+	}
+
+	private static void writeInt(OutputStream out, long value) throws IOException {
+		writeShort(out, (int) (value & 0xffff));
+		writeShort(out, (int) ((value >>> 16) & 0xffff));
+	}
+
+	/**
+	 * Writes the content of {@code word/document.xml}.
+	 */
+	@FunctionalInterface
+	public interface DocumentWriter {
+
+		/**
+		 * Write the document content, the writer must not be closed.
+		 * @param writer writer of the document entry
+		 * @throws IOException if the content can't be written
+		 */
+		void write(Writer writer) throws IOException;
+
+	}
+
+	private static class Entry {
+
+		private final byte[] name;
+
+		private final int method;
+
+		private final int flag;
+
+		/**
+		 * Compressed content, null for the rendered document.
+		 */
+		private final byte[] data;
+
+		private long crc;
+
+		private long size;
+
+		private long compressedSize;
+
+		Entry(byte[] name, int method, int flag, byte[] data) {
+			this.name = name;
+			this.method = method;
+			this.flag = flag;
+			this.data = data;
+		}
+
+	}
+
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+
+	}
+
+}
@@ -79,10 +79,10 @@ public class FormDataBuildHelper extends BaseHelper {
 		boolean requestFieldToUnderline = apiConfig.isRequestFieldToUnderline();
 		boolean responseFieldToUnderline = apiConfig.isResponseFieldToUnderline();
 		String simpleName = DocClassUtil.getSimpleName(className);
-		String[] globGicName = DocClassUtil.getSimpleGicName(className);
+		TypeResolver typeResolver = builder.getTypeResolver();
+		String[] globGicName = typeResolver.getGenericNames(className);
 		JavaClass cls = builder.getJavaProjectBuilder().getClassByName(simpleName);
-		List<DocJavaField> fields = JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(),
-				builder.getApiConfig().getClassLoader());
+		List<DocJavaField> fields = builder.getDocJavaFieldCache().getFields(cls);
 		if (JavaClassValidateUtil.isPrimitive(simpleName)) {
 			FormData formData = new FormData();
 			formData.setKey(pre);
@@ -135,7 +135,7 @@ public class FormDataBuildHelper extends BaseHelper {
 			if (responseFieldToUnderline || requestFieldToUnderline) {
 				fieldName = StringUtil.camelToUnderline(fieldName);
 			}
-			Map<String, String> tagsMap = DocUtil.getFieldTagsValue(field, docField);
+			Map<String, String> tagsMap = typeResolver.getFieldTags(docField);
 			String typeSimpleName = field.getType().getSimpleName();
 			if (JavaClassValidateUtil.isMap(subTypeName)) {
 				continue;
@@ -187,11 +187,11 @@ public class FormDataBuildHelper extends BaseHelper {
 			}
 			else if (JavaClassValidateUtil.isCollection(subTypeName) || JavaClassValidateUtil.isArray(subTypeName)) {
 				String gNameTemp = field.getType().getGenericCanonicalName();
-				String[] gNameArr = DocClassUtil.getSimpleGicName(gNameTemp);
+				String[] gNameArr = typeResolver.getGenericNames(gNameTemp);
 				if (gNameArr.length == 0) {
 					continue;
 				}
-				String gName = DocClassUtil.getSimpleGicName(gNameTemp)[0];
+				String gName = typeResolver.getGenericNames(gNameTemp)[0];
 				if (JavaClassValidateUtil.isPrimitive(gName)) {
 					String fieldValue = getFieldValueFromMock(tagsMap);
 					if (StringUtil.isEmpty(fieldValue)) {
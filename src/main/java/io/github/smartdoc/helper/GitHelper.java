@@ -20,10 +20,16 @@
  */
 package io.github.smartdoc.helper;
 
+import com.power.common.util.CollectionUtil;
 import com.power.common.util.StringUtil;
+import org.eclipse.jgit.api.DiffCommand;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.api.StatusCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.RenameDetector;
+import org.eclipse.jgit.lib.NullProgressMonitor;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
@@ -31,10 +37,16 @@ import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
 import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -49,6 +61,11 @@ public class GitHelper {
 	 */
 	private Repository repository;
 
+	/**
+	 * time in milliseconds spent by each git step
+	 */
+	private final Map<String, Long> timings = new LinkedHashMap<>();
+
 	/**
 	 * Private constructor
 	 */
@@ -65,71 +82,147 @@ public class GitHelper {
 		return helper;
 	}
 
+	/**
+	 * Create a new instance on a repository, for unit testing.
+	 * @param repository Repository
+	 * @return GitHelper
+	 */
+	static GitHelper create(Repository repository) {
+		GitHelper helper = new GitHelper();
+		helper.repository = repository;
+		return helper;
+	}
+
 	/**
 	 * Get diff between current commit and the commit with commitId
 	 * @param commitId commitId
 	 * @return {@code List<DiffEntry>}
 	 */
 	public List<DiffEntry> getDiff(String commitId) {
+		return getDiff(commitId, Collections.emptyList());
+	}
+
+	/**
+	 * Get diff between current commit and the commit with commitId, the renamed files are
+	 * detected and reported as one {@link DiffEntry.ChangeType#RENAME} entry.
+	 * @param commitId commitId
+	 * @param paths repository relative paths the diff is restricted to, empty for the
+	 * whole repository
+	 * @return {@code List<DiffEntry>}
+	 */
+	public List<DiffEntry> getDiff(String commitId, Collection<String> paths) {
 		if (StringUtil.isEmpty(commitId) || notGitRepo()) {
 			return Collections.emptyList();
 		}
 
-		try (Git git = new Git(repository)) {
+		long start = System.currentTimeMillis();
+		try (Git git = new Git(repository);
+				RevWalk revWalk = new RevWalk(repository);
+				ObjectReader reader = repository.newObjectReader()) {
 			ObjectId commitObjectId = repository.resolve(commitId);
-			RevCommit commit = new RevWalk(repository).parseCommit(commitObjectId);
+			RevCommit commit = revWalk.parseCommit(commitObjectId);
 
-			ObjectId treeId = commit.getTree().getId();
 			CanonicalTreeParser oldTreeIter = new CanonicalTreeParser();
-			try (ObjectReader reader = repository.newObjectReader()) {
-				oldTreeIter.reset(reader, treeId);
-			}
+			oldTreeIter.reset(reader, commit.getTree().getId());
 
 			ObjectId currentTreeId = repository.resolve("HEAD^{tree}");
 			CanonicalTreeParser newTreeIter = new CanonicalTreeParser();
-			try (ObjectReader reader = repository.newObjectReader()) {
-				newTreeIter.reset(reader, currentTreeId);
+			newTreeIter.reset(reader, currentTreeId);
+
+			DiffCommand diffCommand = git.diff().setNewTree(newTreeIter).setOldTree(oldTreeIter);
+			if (CollectionUtil.isNotEmpty(paths)) {
+				diffCommand.setPathFilter(PathFilterGroup.createFromStrings(paths));
 			}
+			List<DiffEntry> entries = diffCommand.call();
 
-			return git.diff().setNewTree(newTreeIter).setOldTree(oldTreeIter).call();
+			RenameDetector renameDetector = new RenameDetector(repository);
+			renameDetector.addAll(entries);
+			return renameDetector.compute(reader, NullProgressMonitor.INSTANCE);
 		}
 		catch (IOException | GitAPIException e) {
 			throw new RuntimeException(e);
 		}
+		finally {
+			timings.put("diff", System.currentTimeMillis() - start);
+		}
 	}
 
 	/**
-	 * Get uncommitted changes
-	 * @return {@code Set<String> }
+	 * Get the uncommitted changes and the untracked files with a single working tree
+	 * walk.
+	 * @param paths repository relative paths the status is restricted to, empty for the
+	 * whole repository
+	 * @return the status, null if it is not a git repository
 	 */
-	public Set<String> getUncommitted() {
+	public Status getStatus(Collection<String> paths) {
 		if (notGitRepo()) {
-			return Collections.emptySet();
+			return null;
 		}
 
+		long start = System.currentTimeMillis();
 		try (Git git = new Git(repository)) {
-			return git.status().call().getUncommittedChanges();
+			StatusCommand statusCommand = git.status();
+			if (CollectionUtil.isNotEmpty(paths)) {
+				paths.forEach(statusCommand::addPath);
+			}
+			return statusCommand.call();
 		}
 		catch (GitAPIException e) {
 			throw new RuntimeException(e);
 		}
+		finally {
+			timings.put("status", System.currentTimeMillis() - start);
+		}
+	}
+
+	/**
+	 * Get uncommitted changes
+	 * @return {@code Set<String> }
+	 * @deprecated use {@link #getStatus(Collection)}, it walks the working tree once for
+	 * the uncommitted and the untracked files
+	 */
+	@Deprecated
+	public Set<String> getUncommitted() {
+		Status status = getStatus(Collections.emptyList());
+		return status == null ? Collections.emptySet() : status.getUncommittedChanges();
 	}
 
 	/**
 	 * Get untracked files
 	 * @return {@code Set<String> }
+	 * @deprecated use {@link #getStatus(Collection)}, it walks the working tree once for
+	 * the uncommitted and the untracked files
 	 */
+	@Deprecated
 	public Set<String> getUntracked() {
-		if (notGitRepo()) {
-			return Collections.emptySet();
-		}
+		Status status = getStatus(Collections.emptyList());
+		return status == null ? Collections.emptySet() : status.getUntracked();
+	}
 
-		try (Git git = new Git(repository)) {
-			return git.status().call().getUntracked();
+	/**
+	 * Get the repository relative path of a directory.
+	 * @param dir the directory
+	 * @return the relative path with '/' separators, null if the directory is not in the
+	 * working tree
+	 */
+	public String getRepositoryPath(File dir) {
+		if (notGitRepo()) {
+			return null;
 		}
-		catch (GitAPIException e) {
-			throw new RuntimeException(e);
+		Path workTree = repository.getWorkTree().toPath().toAbsolutePath().normalize();
+		Path path = dir.toPath().toAbsolutePath().normalize();
+		if (!path.startsWith(workTree)) {
+			return null;
 		}
+		return workTree.relativize(path).toString().replace(File.separatorChar, '/');
+	}
+
+	/**
+	 * Get the time in milliseconds spent by each git step, key: diff or status.
+	 * @return the timings
+	 */
+	public Map<String, Long> getTimings() {
+		return Collections.unmodifiableMap(timings);
 	}
 
 	/**
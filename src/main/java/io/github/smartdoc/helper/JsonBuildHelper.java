@@ -45,7 +45,6 @@ import com.thoughtworks.qdox.model.JavaType;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -136,6 +135,23 @@ public class JsonBuildHelper extends BaseHelper {
 	public static String buildJson(String typeName, String genericCanonicalName, boolean isResp, int counter,
 			Map<String, String> registryClasses, Set<String> groupClasses, Set<String> methodJsonViewClasses,
 			ProjectDocConfigBuilder projectBuilder) {
+		ApiExampleCache cache = registryClasses.isEmpty() ? ApiExampleCache.current() : null;
+		if (Objects.isNull(cache)) {
+			return doBuildJson(typeName, genericCanonicalName, isResp, counter, registryClasses, groupClasses,
+					methodJsonViewClasses, projectBuilder);
+		}
+		String key = ApiExampleCache.key(typeName, genericCanonicalName, isResp, counter, groupClasses,
+				methodJsonViewClasses, ApiExampleCache.settingsKey(projectBuilder.getApiConfig()));
+		return cache.getJson(key, () -> doBuildJson(typeName, genericCanonicalName, isResp, counter, registryClasses,
+				groupClasses, methodJsonViewClasses, projectBuilder));
+	}
+
+	/**
+	 * Builds the JSON string without the example cache, see {@link #buildJson}.
+	 */
+	private static String doBuildJson(String typeName, String genericCanonicalName, boolean isResp, int counter,
+			Map<String, String> registryClasses, Set<String> groupClasses, Set<String> methodJsonViewClasses,
+			ProjectDocConfigBuilder projectBuilder) {
 
 		if (StringUtil.isEmpty(typeName)) {
 			throw new RuntimeException("Class name can't be null or empty.");
@@ -158,7 +174,6 @@ public class JsonBuildHelper extends BaseHelper {
 		// Registry class
 		registryClasses.put(typeName, typeName);
 
-		Map<String, String> genericMap = new HashMap<>(10);
 		JavaClass javaClass = projectBuilder.getJavaProjectBuilder().getClassByName(typeName);
 
 		// Check if the class should be ignored based on MVC parameters
@@ -186,7 +201,8 @@ public class JsonBuildHelper extends BaseHelper {
 		JavaClass cls = projectBuilder.getClassByName(typeName);
 
 		result.append("{");
-		String[] globGicName = DocClassUtil.getSimpleGicName(genericCanonicalName);
+		TypeResolver typeResolver = projectBuilder.getTypeResolver();
+		String[] globGicName = typeResolver.getGenericNames(genericCanonicalName);
 
 		// Obtain generics from parent class if not found
 		if (Objects.isNull(globGicName) || globGicName.length < 1) {
@@ -194,10 +210,10 @@ public class JsonBuildHelper extends BaseHelper {
 			JavaClass superJavaClass = cls != null ? cls.getSuperJavaClass() : null;
 			if (Objects.nonNull(superJavaClass)
 					&& !JavaTypeConstants.OBJECT_SIMPLE_NAME.equals(superJavaClass.getSimpleName())) {
-				globGicName = DocClassUtil.getSimpleGicName(superJavaClass.getGenericFullyQualifiedName());
+				globGicName = typeResolver.getGenericNames(superJavaClass.getGenericFullyQualifiedName());
 			}
 		}
-		JavaClassUtil.genericParamMap(genericMap, cls, globGicName);
+		Map<String, String> genericMap = typeResolver.getGenericMap(cls, globGicName);
 		StringBuilder data = new StringBuilder();
 
 		// Handle collection types
@@ -257,11 +273,10 @@ public class JsonBuildHelper extends BaseHelper {
 		else {
 			boolean requestFieldToUnderline = projectBuilder.getApiConfig().isRequestFieldToUnderline();
 			boolean responseFieldToUnderline = projectBuilder.getApiConfig().isResponseFieldToUnderline();
-			List<DocJavaField> fields = JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(),
-					projectBuilder.getApiConfig().getClassLoader());
+			List<DocJavaField> fields = projectBuilder.getDocJavaFieldCache().getFields(cls);
 
 			// get ignore fields from class
-			Map<String, String> ignoreFields = JavaClassUtil.getClassJsonIgnoreFields(cls);
+			Map<String, String> ignoreFields = typeResolver.getIgnoreFields(cls);
 
 			// Process each field of the class
 			for (DocJavaField docField : fields) {
@@ -285,7 +300,7 @@ public class JsonBuildHelper extends BaseHelper {
 				}
 
 				// get tags value from the field
-				Map<String, String> tagsMap = DocUtil.getFieldTagsValue(field, docField);
+				Map<String, String> tagsMap = typeResolver.getFieldTags(docField);
 
 				// field json annotation
 				FieldJsonAnnotationInfo annotationInfo = getFieldJsonAnnotationInfo(projectBuilder, docField, isResp,
@@ -364,7 +379,7 @@ public class JsonBuildHelper extends BaseHelper {
 							fieldGicName = fieldGicName.substring(0, fieldGicName.lastIndexOf("["));
 							fieldGicName = "java.util.List<" + fieldGicName + ">";
 						}
-						String[] gicNameArray = DocClassUtil.getSimpleGicName(fieldGicName);
+						String[] gicNameArray = typeResolver.getGenericNames(fieldGicName);
 						String gicName = gicNameArray[0];
 						if (JavaTypeConstants.JAVA_STRING_FULLY.equals(gicName)) {
 							result.append("[").append(DocUtil.jsonValueByType(gicName)).append("]").append(",");
@@ -0,0 +1,248 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.constants.DocGlobalConstants;
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaMethod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled form of the packageFilters and packageExcludeFilters, it is built once per
+ * build and filter string.
+ * <p>
+ * The plain filters are stored in a prefix trie, so a name is matched against all of them
+ * in one walk. The wildcard filters are regular expressions, they are combined into one
+ * alternation pattern. The result of a class is cached by its canonical name.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class PackageFilterMatcher {
+
+	/**
+	 * Back references can't be renumbered in the combined pattern.
+	 */
+	private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\([1-9]|k<)");
+
+	/**
+	 * trie of the plain filters
+	 */
+	private final Node plainFilters = new Node();
+
+	/**
+	 * plain filters in the declared order
+	 */
+	private final List<String> plainFilterList = new ArrayList<>();
+
+	/**
+	 * wildcard filters, one combined pattern if they can be combined
+	 */
+	private final List<Pattern> wildcardFilters = new ArrayList<>();
+
+	/**
+	 * class results, key: canonical name, value: filter methods or empty if not matched
+	 */
+	private final Map<String, Optional<Set<String>>> classResults = new ConcurrentHashMap<>();
+
+	/**
+	 * Compile the filters.
+	 * @param packageFilters comma separated filters, a filter containing '*' is a regular
+	 * expression, otherwise it is a package, class or method name
+	 */
+	public PackageFilterMatcher(String packageFilters) {
+		List<String> wildcards = new ArrayList<>();
+		for (String filter : packageFilters.split(",")) {
+			if (filter.contains("*")) {
+				wildcards.add(filter);
+			}
+			else {
+				plainFilterList.add(filter);
+				plainFilters.add(filter);
+			}
+		}
+		if (wildcards.isEmpty()) {
+			return;
+		}
+		if (wildcards.size() > 1 && wildcards.stream().noneMatch(w -> BACK_REFERENCE.matcher(w).find())) {
+			StringBuilder combined = new StringBuilder();
+			for (String wildcard : wildcards) {
+				if (combined.length() > 0) {
+					combined.append('|');
+				}
+				combined.append("(?:").append(wildcard).append(')');
+			}
+			try {
+				wildcardFilters.add(Pattern.compile(combined.toString()));
+				return;
+			}
+			catch (PatternSyntaxException e) {
+				// report the error of the filter itself below
+			}
+		}
+		for (String wildcard : wildcards) {
+			wildcardFilters.add(Pattern.compile(wildcard));
+		}
+	}
+
+	/**
+	 * Match a class or method name, a plain filter matches the names it is a prefix of.
+	 * @param name class or method name
+	 * @return true if any filter matches
+	 */
+	public boolean matches(String name) {
+		return plainFilters.matchesFrom(name, 0) || this.matchesWildcard(name);
+	}
+
+	/**
+	 * Match a controller class, a plain filter matches the class names containing it or
+	 * the methods of the class it points to.
+	 * @param controllerClass controller class
+	 * @return the filter methods, {@link DocGlobalConstants#DEFAULT_FILTER_METHOD} for
+	 * all the methods, or null if the class is not matched
+	 */
+	public Set<String> match(JavaClass controllerClass) {
+		String controllerName = controllerClass.getCanonicalName();
+		return classResults.computeIfAbsent(controllerName, k -> Optional.ofNullable(this.doMatch(controllerClass)))
+			.orElse(null);
+	}
+
+	private Set<String> doMatch(JavaClass controllerClass) {
+		String controllerName = controllerClass.getCanonicalName();
+		if (this.containsPlainFilter(controllerName) || this.matchesWildcard(controllerName)) {
+			return Collections.singleton(DocGlobalConstants.DEFAULT_FILTER_METHOD);
+		}
+		Set<String> filterMethods = new HashSet<>();
+		if (!wildcardFilters.isEmpty() && this.mayMatchMethods(controllerName + ".")) {
+			for (JavaMethod method : controllerClass.getMethods()) {
+				if (this.matchesWildcard(controllerName + "." + method.getName())) {
+					filterMethods.add(method.getName());
+				}
+			}
+		}
+		for (String filter : plainFilterList) {
+			if (filter.contains(controllerName)) {
+				// the filter is point to a method
+				filterMethods.add(filter.replace(controllerName, "").replace(".", ""));
+			}
+		}
+		return filterMethods.isEmpty() ? null : filterMethods;
+	}
+
+	/**
+	 * Check whether any plain filter is contained in the name.
+	 * @param name name
+	 * @return true if a plain filter is a substring of the name
+	 */
+	private boolean containsPlainFilter(String name) {
+		for (int i = 0; i <= name.length(); i++) {
+			if (plainFilters.matchesFrom(name, i)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean matchesWildcard(String name) {
+		for (Pattern pattern : wildcardFilters) {
+			if (pattern.matcher(name).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check whether a name starting with the prefix may match a wildcard filter, the
+	 * methods of the classes that can't match are not checked.
+	 * @param prefix the prefix of the method names
+	 * @return false if no name starting with the prefix can match
+	 */
+	private boolean mayMatchMethods(String prefix) {
+		for (Pattern pattern : wildcardFilters) {
+			Matcher matcher = pattern.matcher(prefix);
+			if (matcher.matches() || matcher.hitEnd()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Node of the prefix trie.
+	 */
+	private static class Node {
+
+		/**
+		 * children, key: next char
+		 */
+		private final Map<Character, Node> children = new HashMap<>(4);
+
+		/**
+		 * whether a filter ends at this node
+		 */
+		private boolean terminal;
+
+		void add(String filter) {
+			Node node = this;
+			for (int i = 0; i < filter.length(); i++) {
+				node = node.children.computeIfAbsent(filter.charAt(i), c -> new Node());
+			}
+			node.terminal = true;
+		}
+
+		/**
+		 * Check whether a filter starts at the offset of the name.
+		 * @param name name
+		 * @param offset offset
+		 * @return true if a filter matches
+		 */
+		boolean matchesFrom(String name, int offset) {
+			Node node = this;
+			for (int i = offset; !node.terminal; i++) {
+				if (i == name.length()) {
+					return false;
+				}
+				node = node.children.get(name.charAt(i));
+				if (node == null) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+}
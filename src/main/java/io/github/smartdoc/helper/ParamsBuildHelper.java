@@ -52,7 +52,6 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -93,6 +92,26 @@ public class ParamsBuildHelper extends BaseHelper {
 	public static List<ApiParam> buildParams(String className, String pre, int level, String isRequired, boolean isResp,
 			Map<String, String> registryClasses, ProjectDocConfigBuilder projectBuilder, Set<String> groupClasses,
 			Set<String> methodJsonViewClasses, int pid, boolean jsonRequest, AtomicInteger atomicInteger) {
+		ApiExampleCache cache = registryClasses.isEmpty() ? ApiExampleCache.current() : null;
+		if (Objects.isNull(cache)) {
+			return doBuildParams(className, pre, level, isRequired, isResp, registryClasses, projectBuilder,
+					groupClasses, methodJsonViewClasses, pid, jsonRequest, atomicInteger);
+		}
+		// the ids of a top level call only depend on the pid when there is no id counter
+		String key = ApiExampleCache.key(className, pre, level, isRequired, isResp, groupClasses, methodJsonViewClasses,
+				jsonRequest, Objects.isNull(atomicInteger) ? pid : "counter",
+				ApiExampleCache.settingsKey(projectBuilder.getApiConfig()));
+		return cache.getParams(key, pid, atomicInteger, () -> doBuildParams(className, pre, level, isRequired, isResp,
+				registryClasses, projectBuilder, groupClasses, methodJsonViewClasses, pid, jsonRequest, atomicInteger));
+	}
+
+	/**
+	 * Builds the parameter list without the example cache, see {@link #buildParams}.
+	 */
+	private static List<ApiParam> doBuildParams(String className, String pre, int level, String isRequired,
+			boolean isResp, Map<String, String> registryClasses, ProjectDocConfigBuilder projectBuilder,
+			Set<String> groupClasses, Set<String> methodJsonViewClasses, int pid, boolean jsonRequest,
+			AtomicInteger atomicInteger) {
 
 		if (StringUtil.isEmpty(className)) {
 			throw new RuntimeException("Class name can't be null or empty.");
@@ -114,7 +133,8 @@ public class ParamsBuildHelper extends BaseHelper {
 		// Registry class
 		registryClasses.put(className, className);
 		String simpleName = DocClassUtil.getSimpleName(className);
-		String[] globGicName = DocClassUtil.getSimpleGicName(className);
+		TypeResolver typeResolver = projectBuilder.getTypeResolver();
+		String[] globGicName = typeResolver.getGenericNames(className);
 
 		if (Objects.isNull(globGicName) || globGicName.length < 1) {
 			JavaClass cls = projectBuilder.getClassByName(simpleName);
@@ -122,7 +142,7 @@ public class ParamsBuildHelper extends BaseHelper {
 			JavaClass superJavaClass = Objects.nonNull(cls) ? cls.getSuperJavaClass() : null;
 			if (Objects.nonNull(superJavaClass)
 					&& !JavaTypeConstants.OBJECT_SIMPLE_NAME.equals(superJavaClass.getSimpleName())) {
-				globGicName = DocClassUtil.getSimpleGicName(superJavaClass.getGenericFullyQualifiedName());
+				globGicName = typeResolver.getGenericNames(superJavaClass.getGenericFullyQualifiedName());
 			}
 		}
 
@@ -220,12 +240,12 @@ public class ParamsBuildHelper extends BaseHelper {
 			fieldNameConvert = PropertyNameHelper.translate(projectBuilder, clsAnnotation);
 		}
 
-		String[] globGicName = DocClassUtil.getSimpleGicName(className);
-		Map<String, String> genericMap = new HashMap<>(globGicName.length);
-		JavaClassUtil.genericParamMap(genericMap, cls, globGicName);
+		TypeResolver typeResolver = projectBuilder.getTypeResolver();
+		String[] globGicName = typeResolver.getGenericNames(className);
+		Map<String, String> genericMap = typeResolver.getGenericMap(cls, globGicName);
 
-		Map<String, String> ignoreFields = JavaClassUtil.getClassJsonIgnoreFields(cls);
-		List<DocJavaField> fields = JavaClassUtil.getFields(cls, 0, new LinkedHashMap<>(), classLoader);
+		Map<String, String> ignoreFields = typeResolver.getIgnoreFields(cls);
+		List<DocJavaField> fields = projectBuilder.getDocJavaFieldCache().getFields(cls);
 		for (DocJavaField docField : fields) {
 			JavaField field = docField.getJavaField();
 			// ignore transient field
@@ -254,7 +274,7 @@ public class ParamsBuildHelper extends BaseHelper {
 			String fieldGicName = docField.getTypeGenericCanonicalName();
 			List<JavaAnnotation> javaAnnotations = docField.getAnnotations();
 
-			Map<String, String> tagsMap = DocUtil.getFieldTagsValue(field, docField);
+			Map<String, String> tagsMap = typeResolver.getFieldTags(docField);
 			// since tag value
 			String since = DocGlobalConstants.DEFAULT_VERSION;
 
@@ -354,7 +374,7 @@ public class ParamsBuildHelper extends BaseHelper {
 					.setExtensions(extensionParams);
 				paramList.add(param);
 
-				List<ApiParam> apiParams = buildMapParam(DocClassUtil.getSimpleGicName(fieldGicName),
+				List<ApiParam> apiParams = buildMapParam(typeResolver.getGenericNames(fieldGicName),
 						DocUtil.getIndentByLevel(level), level + 1, isRequired, isResp, registryClasses, projectBuilder,
 						groupClasses, methodJsonViewClasses, param.getId(), jsonRequest, nextLevel, atomicInteger);
 				paramList.addAll(apiParams);
@@ -472,7 +492,7 @@ public class ParamsBuildHelper extends BaseHelper {
 						fieldGicName = fieldGicName.substring(0, fieldGicName.lastIndexOf("["));
 						fieldGicName = "java.util.List<" + fieldGicName + ">";
 					}
-					String[] gNameArr = DocClassUtil.getSimpleGicName(fieldGicName);
+					String[] gNameArr = typeResolver.getGenericNames(fieldGicName);
 					if (gNameArr.length == 0) {
 						continue;
 					}
@@ -609,7 +629,7 @@ public class ParamsBuildHelper extends BaseHelper {
 							else if (gicName.contains("<")) {
 								if (JavaClassValidateUtil.isCollection(simple)) {
 									param.setType(ParamTypeConstants.PARAM_TYPE_ARRAY);
-									String gName = DocClassUtil.getSimpleGicName(gicName)[0];
+									String gName = typeResolver.getGenericNames(gicName)[0];
 									if (!JavaClassValidateUtil.isPrimitive(gName)) {
 										paramList.addAll(buildParams(gName, preBuilder.toString(), nextLevel,
 												isRequired, isResp, registryClasses, projectBuilder, groupClasses,
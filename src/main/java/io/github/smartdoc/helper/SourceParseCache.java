@@ -0,0 +1,298 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.utils.JsonUtil;
+import com.power.common.util.FileUtil;
+import com.power.common.util.StringUtil;
+import com.thoughtworks.qdox.model.DocletTag;
+import com.thoughtworks.qdox.model.JavaAnnotation;
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaSource;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Persistent index of the parsed source files, stored in the baseDir.
+ * <p>
+ * The QDox model can't be serialized, so the index records the content hash of each
+ * source file and whether the file only declares plain types. A plain type is a class
+ * without class level annotations and tags other than the well known model ones, it is
+ * never an entry point. When such a file is unchanged since the last build, it is not
+ * parsed again and QDox resolves it from its source folder when it is referenced. Entry
+ * points, enums, interfaces and changed files are always parsed.
+ * <p>
+ * The skipped types are not listed by {@code JavaProjectBuilder#getClasses()} nor by the
+ * class files map of the {@code ProjectDocConfigBuilder}. Nothing finds a plain type by
+ * scanning these collections: the entry points, exception advices and dictionary enums
+ * are scanned and always parsed, the plain types are only reached by name from the types
+ * referencing them.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class SourceParseCache {
+
+	private static final Logger log = Logger.getLogger(SourceParseCache.class.getName());
+
+	private static final String CONFIG_NAME = ".smart-doc-source-cache.json";
+
+	private static final String SCHEMA = "v1";
+
+	/**
+	 * Package prefixes of the annotations which don't make a class an entry point.
+	 */
+	private static final List<String> MODEL_ANNOTATION_PACKAGES = Arrays.asList("lombok.", "com.fasterxml.jackson.",
+			"javax.validation.", "jakarta.validation.", "javax.persistence.", "jakarta.persistence.", "io.swagger.",
+			"com.alibaba.fastjson");
+
+	/**
+	 * Class level tags which don't make a class an entry point.
+	 */
+	private static final Set<String> MODEL_TAGS = new HashSet<>(
+			Arrays.asList("author", "since", "version", "date", "see", "deprecated"));
+
+	/**
+	 * whether the cache is enabled
+	 */
+	private transient boolean enabled;
+
+	/**
+	 * index file
+	 */
+	private transient File configFile;
+
+	/**
+	 * entries of the previous build, key: absolute path of the source file
+	 */
+	private transient Map<String, Entry> previous = new HashMap<>();
+
+	/**
+	 * The schema version of the index file.
+	 */
+	private String schema = SCHEMA;
+
+	/**
+	 * Entries of the current build, key: absolute path of the source file.
+	 */
+	private Map<String, Entry> entries = new HashMap<>();
+
+	private SourceParseCache() {
+
+	}
+
+	/**
+	 * Create or load the source index.
+	 * @param apiConfig the api config
+	 * @return SourceParseCache, disabled if the source cache is not configured
+	 */
+	public static SourceParseCache detect(ApiConfig apiConfig) {
+		SourceParseCache cache = new SourceParseCache();
+		if (!apiConfig.isSourceCache()) {
+			return cache;
+		}
+		if (StringUtil.isEmpty(apiConfig.getBaseDir())) {
+			log.warning("The baseDir is empty, the source cache is disabled.");
+			return cache;
+		}
+		File configFile = new File(apiConfig.getBaseDir() + File.separator + CONFIG_NAME);
+		if (configFile.exists()) {
+			try {
+				String content = new String(Files.readAllBytes(configFile.toPath()), StandardCharsets.UTF_8);
+				SourceParseCache stored = JsonUtil.toObject(content, SourceParseCache.class);
+				if (Objects.nonNull(stored) && SCHEMA.equals(stored.schema) && Objects.nonNull(stored.entries)) {
+					cache.previous = stored.entries;
+				}
+			}
+			catch (Exception e) {
+				log.warning("Failed to read the source cache " + configFile + ", all sources are parsed: " + e);
+			}
+		}
+		cache.configFile = configFile;
+		cache.enabled = true;
+		return cache;
+	}
+
+	/**
+	 * Check whether the source file is a plain type file that is unchanged since the last
+	 * build, such a file doesn't need to be parsed.
+	 * @param file the source file
+	 * @return true if the file can be resolved on demand
+	 */
+	public boolean isUnchanged(File file) {
+		if (!enabled) {
+			return false;
+		}
+		String key = file.getAbsolutePath();
+		Entry entry = previous.get(key);
+		if (Objects.isNull(entry) || !entry.plain || entry.length != file.length()) {
+			return false;
+		}
+		if (entry.lastModified != file.lastModified()) {
+			// the file is touched, e.g. by a checkout, compare the content
+			if (!Objects.equals(entry.hash, hash(file))) {
+				return false;
+			}
+			entry.lastModified = file.lastModified();
+		}
+		entries.put(key, entry);
+		return true;
+	}
+
+	/**
+	 * Record a parsed source file.
+	 * @param sourceRoot the source folder the file is loaded from
+	 * @param file the source file
+	 * @param source the parsed source
+	 */
+	public void put(File sourceRoot, File file, JavaSource source) {
+		if (!enabled || Objects.isNull(source)) {
+			return;
+		}
+		Entry entry = new Entry();
+		entry.length = file.length();
+		entry.lastModified = file.lastModified();
+		entry.hash = hash(file);
+		entry.plain = entry.hash != null && isPlain(sourceRoot, file, source);
+		entries.put(file.getAbsolutePath(), entry);
+	}
+
+	/**
+	 * Write the index of the current build to the baseDir.
+	 */
+	public void save() {
+		if (!enabled) {
+			return;
+		}
+		FileUtil.writeFileNotAppend(JsonUtil.toPrettyJson(this), configFile.getAbsolutePath());
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Check whether the file can be found from its source folder by the name of the type
+	 * it declares and none of its types is an entry point candidate.
+	 * @param sourceRoot the source folder
+	 * @param file the source file
+	 * @param source the parsed source
+	 * @return true if the file only declares a plain type
+	 */
+	private static boolean isPlain(File sourceRoot, File file, JavaSource source) {
+		List<JavaClass> classes = source.getClasses();
+		if (classes.size() != 1) {
+			return false;
+		}
+		JavaClass javaClass = classes.get(0);
+		String expectedPath = javaClass.getFullyQualifiedName().replace('.', File.separatorChar) + ".java";
+		if (!file.getAbsoluteFile().equals(new File(sourceRoot.getAbsoluteFile(), expectedPath))) {
+			return false;
+		}
+		return isPlain(javaClass);
+	}
+
+	/**
+	 * Check whether the class and its nested classes are plain types.
+	 * @param javaClass the class
+	 * @return true if it is a plain type
+	 */
+	private static boolean isPlain(JavaClass javaClass) {
+		if (javaClass.isEnum() || javaClass.isInterface() || javaClass.isAnnotation()) {
+			return false;
+		}
+		for (DocletTag tag : javaClass.getTags()) {
+			if (!MODEL_TAGS.contains(tag.getName())) {
+				return false;
+			}
+		}
+		for (JavaAnnotation annotation : javaClass.getAnnotations()) {
+			String annotationName = annotation.getType().getFullyQualifiedName();
+			if (MODEL_ANNOTATION_PACKAGES.stream().noneMatch(annotationName::startsWith)) {
+				return false;
+			}
+		}
+		for (JavaClass nestedClass : javaClass.getNestedClasses()) {
+			if (!isPlain(nestedClass)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Content hash of the file.
+	 * @param file the file
+	 * @return the hash, or null if the file can't be read
+	 */
+	private static String hash(File file) {
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			return DigestUtils.sha1Hex(in);
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Index entry of a source file.
+	 */
+	private static class Entry {
+
+		/**
+		 * file length
+		 */
+		private long length;
+
+		/**
+		 * file last modified time
+		 */
+		private long lastModified;
+
+		/**
+		 * sha1 of the file content
+		 */
+		private String hash;
+
+		/**
+		 * whether the file only declares a plain type
+		 */
+		private boolean plain;
+
+	}
+
+}
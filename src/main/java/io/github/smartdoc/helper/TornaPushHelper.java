@@ -0,0 +1,185 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.model.ApiConfig;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sends the push requests to torna. The transient failures, the network errors and the
+ * 429 or 5xx responses, are retried with an exponential backoff. The request body is gzip
+ * encoded when {@link ApiConfig#isTornaGzip()} is set.
+ * <p>
+ * The helper is thread safe, the pushes of the api partitions share its connection pool.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class TornaPushHelper {
+
+	private static final Logger log = Logger.getLogger(TornaPushHelper.class.getName());
+
+	private static final MediaType JSON_TYPE = MediaType.parse("application/json; charset=utf-8");
+
+	/**
+	 * backoff of the first retry in milliseconds, doubled for each retry
+	 */
+	private static final long BACKOFF_MILLIS = 500;
+
+	/**
+	 * timeout of the connect, read and write in seconds
+	 */
+	private static final long TIMEOUT_SECONDS = 10;
+
+	/**
+	 * http client
+	 */
+	private final OkHttpClient client;
+
+	/**
+	 * torna open url
+	 */
+	private final String openUrl;
+
+	/**
+	 * max number of retries
+	 */
+	private final int retries;
+
+	/**
+	 * whether to gzip the request body
+	 */
+	private final boolean gzip;
+
+	/**
+	 * backoff of the first retry in milliseconds
+	 */
+	private final long backoffMillis;
+
+	/**
+	 * Constructor
+	 * @param apiConfig api config
+	 */
+	public TornaPushHelper(ApiConfig apiConfig) {
+		this(apiConfig.getOpenUrl(), apiConfig.getTornaUploadRetries(), apiConfig.isTornaGzip(), BACKOFF_MILLIS);
+	}
+
+	/**
+	 * Constructor
+	 * @param openUrl torna open url
+	 * @param retries max number of retries
+	 * @param gzip whether to gzip the request body
+	 * @param backoffMillis backoff of the first retry in milliseconds
+	 */
+	public TornaPushHelper(String openUrl, int retries, boolean gzip, long backoffMillis) {
+		this.openUrl = openUrl;
+		this.retries = Math.max(0, retries);
+		this.gzip = gzip;
+		this.backoffMillis = backoffMillis;
+		this.client = new OkHttpClient.Builder().connectTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+			.readTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+			.writeTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+			.build();
+	}
+
+	/**
+	 * Post the json to torna.
+	 * @param category push category, used in the log
+	 * @param json request json
+	 * @return the response body, null if the push still fails after the retries
+	 */
+	public String postJson(String category, String json) {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		Request.Builder requestBuilder = new Request.Builder().url(openUrl);
+		if (gzip) {
+			body = gzip(body);
+			requestBuilder.header("Content-Encoding", "gzip");
+		}
+		Request request = requestBuilder.post(RequestBody.create(body, JSON_TYPE)).build();
+		for (int attempt = 0;; attempt++) {
+			String error;
+			try (Response response = client.newCall(request).execute()) {
+				ResponseBody responseBody = response.body();
+				String content = responseBody == null ? null : responseBody.string();
+				if (!isTransient(response.code())) {
+					return content;
+				}
+				error = "HTTP " + response.code();
+			}
+			catch (IOException e) {
+				error = e.toString();
+			}
+			if (attempt >= retries) {
+				log.warning("Failed to push " + category + " to torna after " + (attempt + 1) + " attempts: " + error);
+				return null;
+			}
+			long backoff = backoffMillis << attempt;
+			log.info("Retry pushing " + category + " to torna in " + backoff + " ms: " + error);
+			try {
+				Thread.sleep(backoff);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Whether the response status is a transient failure.
+	 * @param code response status
+	 * @return true if the request should be retried
+	 */
+	private static boolean isTransient(int code) {
+		return code == 429 || code >= 500;
+	}
+
+	/**
+	 * Gzip the bytes.
+	 * @param bytes bytes
+	 * @return gzip encoded bytes
+	 */
+	private static byte[] gzip(byte[] bytes) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+		try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+			gzipOut.write(bytes);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return out.toByteArray();
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.torna.Apis;
+import io.github.smartdoc.model.torna.TornaApi;
+import io.github.smartdoc.utils.JsonUtil;
+import com.google.gson.Gson;
+import com.power.common.util.FileUtil;
+import com.power.common.util.StringUtil;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Manifest of the content hashes last pushed to Torna, stored in the baseDir.
+ * <p>
+ * Each top level entry of the pushed apis is hashed by its json, only the entries which
+ * are new or changed since the last successful push are pushed again. Everything is
+ * pushed when the manifest is missing, belongs to another Torna project, the shared
+ * settings (author, debug envs, error codes) changed, an entry was removed, or
+ * {@link ApiConfig#isTornaFullResync()} is set.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class TornaPushManifest {
+
+	private static final Logger log = Logger.getLogger(TornaPushManifest.class.getName());
+
+	private static final String CONFIG_NAME = ".smart-doc-torna-manifest.json";
+
+	private static final String SCHEMA = "v1";
+
+	private static final Gson GSON = new Gson();
+
+	/**
+	 * manifest file, null if the manifest is not persisted
+	 */
+	private transient File configFile;
+
+	/**
+	 * whether all the entries are pushed
+	 */
+	private transient boolean fullPush = true;
+
+	/**
+	 * hashes of the current entries, key: entry key
+	 */
+	private transient Map<String, String> current = new HashMap<>();
+
+	/**
+	 * keys of the current entries
+	 */
+	private transient Map<Apis, String> keys = new IdentityHashMap<>();
+
+	/**
+	 * The schema version of the manifest file.
+	 */
+	private String schema = SCHEMA;
+
+	/**
+	 * Hash of the Torna open url and app token.
+	 */
+	private String target;
+
+	/**
+	 * Hash of the settings shared by all the entries.
+	 */
+	private String common;
+
+	/**
+	 * Hashes of the successfully pushed entries, key: entry key.
+	 */
+	private Map<String, String> entries = new HashMap<>();
+
+	private TornaPushManifest() {
+
+	}
+
+	/**
+	 * Load the manifest and decide whether all the entries need to be pushed.
+	 * @param apiConfig the api config
+	 * @param tornaApi the apis to push
+	 * @return TornaPushManifest
+	 */
+	public static TornaPushManifest detect(ApiConfig apiConfig, TornaApi tornaApi) {
+		TornaPushManifest manifest = new TornaPushManifest();
+		manifest.target = DigestUtils.sha1Hex(apiConfig.getOpenUrl() + "\n" + apiConfig.getAppToken());
+		manifest.common = DigestUtils.sha1Hex(GSON.toJson(Arrays.asList(tornaApi.getAuthor(), tornaApi.getIsReplace(),
+				tornaApi.getDebugEnvs(), tornaApi.getCommonErrorCodes())));
+		manifest.keyEntries(tornaApi.getApis());
+		if (StringUtil.isEmpty(apiConfig.getBaseDir())) {
+			return manifest;
+		}
+		File configFile = new File(apiConfig.getBaseDir() + File.separator + CONFIG_NAME);
+		manifest.configFile = configFile;
+		if (apiConfig.isTornaFullResync() || !configFile.exists()) {
+			return manifest;
+		}
+		try {
+			String content = new String(Files.readAllBytes(configFile.toPath()), StandardCharsets.UTF_8);
+			TornaPushManifest stored = JsonUtil.toObject(content, TornaPushManifest.class);
+			if (Objects.nonNull(stored) && SCHEMA.equals(stored.schema) && Objects.nonNull(stored.entries)
+					&& Objects.equals(manifest.target, stored.target) && Objects.equals(manifest.common, stored.common)
+					&& manifest.current.keySet().containsAll(stored.entries.keySet())) {
+				manifest.entries.putAll(stored.entries);
+				manifest.fullPush = false;
+			}
+		}
+		catch (Exception e) {
+			log.warning("Failed to read the torna manifest " + configFile + ", all apis are pushed: " + e);
+		}
+		return manifest;
+	}
+
+	/**
+	 * Get the entries to push.
+	 * @param apis the top level entries
+	 * @return all the entries for a full push, otherwise the new or changed ones
+	 */
+	public List<Apis> getChanged(List<Apis> apis) {
+		if (fullPush || Objects.isNull(apis)) {
+			return apis;
+		}
+		List<Apis> changed = new ArrayList<>();
+		for (Apis api : apis) {
+			String key = keys.get(api);
+			if (Objects.isNull(key) || !Objects.equals(current.get(key), entries.get(key))) {
+				changed.add(api);
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Record the successfully pushed entries, it is called by the concurrent pushes.
+	 * @param apis the pushed entries
+	 */
+	public synchronized void markPushed(List<Apis> apis) {
+		if (Objects.isNull(apis)) {
+			return;
+		}
+		for (Apis api : apis) {
+			String key = keys.get(api);
+			if (Objects.nonNull(key)) {
+				entries.put(key, current.get(key));
+			}
+		}
+	}
+
+	/**
+	 * Write the manifest to the baseDir, the entries which are no longer pushed are
+	 * dropped.
+	 */
+	public synchronized void save() {
+		if (Objects.isNull(configFile)) {
+			return;
+		}
+		entries.keySet().retainAll(current.keySet());
+		FileUtil.writeFileNotAppend(JsonUtil.toPrettyJson(this), configFile.getAbsolutePath());
+	}
+
+	public boolean isFullPush() {
+		return fullPush;
+	}
+
+	/**
+	 * Key and hash the top level entries, the key is the name and url of the entry, the
+	 * duplicated keys are numbered by their order.
+	 * @param apis the top level entries
+	 */
+	private void keyEntries(List<Apis> apis) {
+		if (Objects.isNull(apis)) {
+			return;
+		}
+		for (Apis api : apis) {
+			String key = api.getName() + "\n" + Objects.toString(api.getUrl(), "");
+			String uniqueKey = key;
+			for (int i = 1; current.containsKey(uniqueKey); i++) {
+				uniqueKey = key + "#" + i;
+			}
+			keys.put(api, uniqueKey);
+			current.put(uniqueKey, DigestUtils.sha1Hex(GSON.toJson(api)));
+		}
+	}
+
+}
@@ -0,0 +1,179 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.model.DocJavaField;
+import io.github.smartdoc.utils.DocClassUtil;
+import io.github.smartdoc.utils.DocUtil;
+import io.github.smartdoc.utils.JavaClassUtil;
+import com.thoughtworks.qdox.model.JavaClass;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Build-scoped type resolution shared by the type walkers of the params
+ * ({@link ParamsBuildHelper}), the json examples ({@link JsonBuildHelper}) and the form
+ * data ({@link FormDataBuildHelper}).
+ * <p>
+ * A request or response type is walked by each of them, they used to resolve the generic
+ * arguments, the type variables, the ignored properties and the field tags again on every
+ * visit. The resolver does it once per type or field and the walkers only consume the
+ * result. The fields themselves come from the {@link DocJavaFieldCache}. The resolver
+ * only memoizes, each walker still traverses the types with its own recursion.
+ * <p>
+ * All the returned maps are unmodifiable, the arrays are copies.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class TypeResolver {
+
+	/**
+	 * key: type name, value: generic arguments from {@link DocClassUtil#getSimpleGicName}
+	 */
+	private final Map<String, String[]> genericNames = new ConcurrentHashMap<>(256);
+
+	/**
+	 * key: class and generic arguments, value: type variable to actual type
+	 */
+	private final Map<String, Map<String, String>> genericMaps = new ConcurrentHashMap<>(256);
+
+	/**
+	 * key: class name, value: properties ignored by the class annotations
+	 */
+	private final Map<String, Map<String, String>> ignoreFields = new ConcurrentHashMap<>(256);
+
+	/**
+	 * cache hit counter
+	 */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/**
+	 * cache miss counter
+	 */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * Get the generic arguments of a type, see {@link DocClassUtil#getSimpleGicName}.
+	 * @param typeName type name
+	 * @return copy of the generic arguments
+	 */
+	public String[] getGenericNames(String typeName) {
+		String[] names = genericNames.get(typeName);
+		if (Objects.isNull(names)) {
+			missCount.incrementAndGet();
+			names = DocClassUtil.getSimpleGicName(typeName);
+			genericNames.putIfAbsent(typeName, names);
+		}
+		else {
+			hitCount.incrementAndGet();
+		}
+		return names.clone();
+	}
+
+	/**
+	 * Get the actual types of the type variables of a class, see
+	 * {@link JavaClassUtil#genericParamMap}.
+	 * @param cls class, nullable
+	 * @param genericNames generic arguments
+	 * @return unmodifiable map of type variable to actual type
+	 */
+	public Map<String, String> getGenericMap(JavaClass cls, String[] genericNames) {
+		if (Objects.isNull(cls)) {
+			return Collections.emptyMap();
+		}
+		String key = cls.getFullyQualifiedName() + "<" + String.join(",", genericNames) + ">";
+		Map<String, String> genericMap = genericMaps.get(key);
+		if (Objects.nonNull(genericMap)) {
+			hitCount.incrementAndGet();
+			return genericMap;
+		}
+		missCount.incrementAndGet();
+		Map<String, String> resolved = new HashMap<>(genericNames.length);
+		// it falls back to loading the class when the source has no type parameters
+		JavaClassUtil.genericParamMap(resolved, cls, genericNames);
+		genericMap = Collections.unmodifiableMap(resolved);
+		Map<String, String> previous = genericMaps.putIfAbsent(key, genericMap);
+		return Objects.nonNull(previous) ? previous : genericMap;
+	}
+
+	/**
+	 * Get the properties ignored by the class annotations, see
+	 * {@link JavaClassUtil#getClassJsonIgnoreFields}.
+	 * @param cls class, nullable
+	 * @return unmodifiable map whose keys are the ignored properties
+	 */
+	public Map<String, String> getIgnoreFields(JavaClass cls) {
+		if (Objects.isNull(cls)) {
+			return Collections.emptyMap();
+		}
+		String key = cls.getFullyQualifiedName();
+		Map<String, String> fields = ignoreFields.get(key);
+		if (Objects.nonNull(fields)) {
+			hitCount.incrementAndGet();
+			return fields;
+		}
+		missCount.incrementAndGet();
+		fields = Collections.unmodifiableMap(JavaClassUtil.getClassJsonIgnoreFields(cls));
+		Map<String, String> previous = ignoreFields.putIfAbsent(key, fields);
+		return Objects.nonNull(previous) ? previous : fields;
+	}
+
+	/**
+	 * Get the tag values of a field, see {@link DocUtil#getFieldTagsValue}. They are kept
+	 * on the field, which is shared through the {@link DocJavaFieldCache}.
+	 * @param docField field
+	 * @return unmodifiable map of tag name to value
+	 */
+	public Map<String, String> getFieldTags(DocJavaField docField) {
+		Map<String, String> tags = docField.getTagsValue();
+		if (Objects.nonNull(tags)) {
+			hitCount.incrementAndGet();
+			return tags;
+		}
+		missCount.incrementAndGet();
+		tags = Collections.unmodifiableMap(DocUtil.getFieldTagsValue(docField.getJavaField(), docField));
+		docField.setTagsValue(tags);
+		return tags;
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "TypeResolver{" + "genericNameSize=" + genericNames.size() + ", genericMapSize=" + genericMaps.size()
+				+ ", hitCount=" + getHitCount() + ", missCount=" + getMissCount() + '}';
+	}
+
+}
@@ -503,10 +503,86 @@ public class ApiConfig {
 	 */
 	private boolean allowSelfReference = Boolean.FALSE;
 
+	/**
+	 * Number of threads used to render and write the per-controller documents. The
+	 * default value 1 renders sequentially, a bigger value renders the documents
+	 * concurrently on a bounded thread pool.
+	 *
+	 * @since 4.0
+	 */
+	private int renderThreads = 1;
+
+	/**
+	 * Whether to keep an index of the parsed source files in the baseDir. Unchanged
+	 * source files that only declare plain types are not parsed again, they are resolved
+	 * on demand when they are referenced.
+	 *
+	 * @since 4.0
+	 */
+	private boolean sourceCache;
+
+	/**
+	 * Number of api partitions pushed to torna concurrently, the partitions are split by
+	 * apiUploadNums.
+	 *
+	 * @since 4.0
+	 */
+	private int tornaUploadThreads = 1;
+
+	/**
+	 * Number of retries of a torna push failed by a network error or a server error.
+	 *
+	 * @since 4.0
+	 */
+	private int tornaUploadRetries = 2;
+
+	/**
+	 * Whether to gzip the request body of the torna push, the torna server must accept
+	 * gzip encoded requests.
+	 *
+	 * @since 4.0
+	 */
+	private boolean tornaGzip;
+
+	/**
+	 * Push all the apis to Torna, by default only the apis changed since the last push
+	 * are pushed.
+	 *
+	 * @since 4.0
+	 */
+	private boolean tornaFullResync;
+
+	/**
+	 * Write the openapi document without indentation.
+	 *
+	 * @since 4.0
+	 */
+	private boolean openApiCompact;
+
+	/**
+	 * Write the openapi document as openapi.yaml instead of openapi.json.
+	 *
+	 * @since 4.0
+	 */
+	private boolean openApiYaml;
+
+	/**
+	 * Get the config of the build running in the current thread.
+	 * @return ApiConfig
+	 * @deprecated use {@link DocBuildContext#currentApiConfig()}
+	 */
+	@Deprecated
 	public static ApiConfig getInstance() {
-		return instance;
+		ApiConfig current = DocBuildContext.currentApiConfig();
+		return Objects.nonNull(current) ? current : instance;
 	}
 
+	/**
+	 * Set the fallback config used when no build is running in the current thread.
+	 * @param instance ApiConfig
+	 * @deprecated the config is bound to the build by {@link DocBuildContext}
+	 */
+	@Deprecated
 	public static void setInstance(ApiConfig instance) {
 		ApiConfig.instance = instance;
 	}
@@ -1212,4 +1288,68 @@ public class ApiConfig {
 		return this;
 	}
 
+	public int getRenderThreads() {
+		return renderThreads;
+	}
+
+	public void setRenderThreads(int renderThreads) {
+		this.renderThreads = renderThreads;
+	}
+
+	public boolean isSourceCache() {
+		return sourceCache;
+	}
+
+	public void setSourceCache(boolean sourceCache) {
+		this.sourceCache = sourceCache;
+	}
+
+	public int getTornaUploadThreads() {
+		return tornaUploadThreads;
+	}
+
+	public void setTornaUploadThreads(int tornaUploadThreads) {
+		this.tornaUploadThreads = tornaUploadThreads;
+	}
+
+	public int getTornaUploadRetries() {
+		return tornaUploadRetries;
+	}
+
+	public void setTornaUploadRetries(int tornaUploadRetries) {
+		this.tornaUploadRetries = tornaUploadRetries;
+	}
+
+	public boolean isTornaGzip() {
+		return tornaGzip;
+	}
+
+	public void setTornaGzip(boolean tornaGzip) {
+		this.tornaGzip = tornaGzip;
+	}
+
+	public boolean isTornaFullResync() {
+		return tornaFullResync;
+	}
+
+	public void setTornaFullResync(boolean tornaFullResync) {
+		this.tornaFullResync = tornaFullResync;
+	}
+
+	public boolean isOpenApiCompact() {
+		return openApiCompact;
+	}
+
+	public void setOpenApiCompact(boolean openApiCompact) {
+		this.openApiCompact = openApiCompact;
+	}
+
+	public boolean isOpenApiYaml() {
+		return openApiYaml;
+	}
+
+	public void setOpenApiYaml(boolean openApiYaml) {
+		this.openApiYaml = openApiYaml;
+	}
+
 }
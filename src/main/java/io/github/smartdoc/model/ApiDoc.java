@@ -65,7 +65,7 @@ public class ApiDoc implements IDoc, Comparable<ApiDoc> {
 	/**
 	 * tag reference
 	 */
-	private final Set<TagDoc> tagRefs = Collections.synchronizedSet(new LinkedHashSet<>());
+	private final transient Set<TagDoc> tagRefs = Collections.synchronizedSet(new LinkedHashSet<>());
 
 	/**
 	 * group
@@ -45,7 +45,7 @@ public class ApiMethodDoc implements IMethod, Serializable, Cloneable {
 
 	private static final long serialVersionUID = 7211922919532562867L;
 
-	private ApiDoc clazzDoc;
+	private transient ApiDoc clazzDoc;
 
 	/**
 	 * methodId handled by md5
@@ -232,7 +232,7 @@ public class ApiMethodDoc implements IMethod, Serializable, Cloneable {
 		return this;
 	}
 
-	private final Set<TagDoc> tagRefs = Collections.synchronizedSet(new LinkedHashSet<>());
+	private final transient Set<TagDoc> tagRefs = Collections.synchronizedSet(new LinkedHashSet<>());
 
 	public Integer getIsRequestArray() {
 		return isRequestArray;
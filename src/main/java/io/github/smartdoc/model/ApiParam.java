@@ -27,6 +27,8 @@ import com.power.common.util.CollectionUtil;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -153,6 +155,14 @@ public class ApiParam implements Serializable {
 
 	private Map<String, Object> extensions;
 
+	/**
+	 * Structural hash of the param tree, computed when the openapi schema is rendered
+	 * after the params are analyzed.
+	 *
+	 * @since 4.0
+	 */
+	private transient String structureHash;
+
 	public static ApiParam of() {
 		return new ApiParam();
 	}
@@ -361,6 +371,15 @@ public class ApiParam implements Serializable {
 		return this;
 	}
 
+	public String getStructureHash() {
+		return structureHash;
+	}
+
+	public ApiParam setStructureHash(String structureHash) {
+		this.structureHash = structureHash;
+		return this;
+	}
+
 	public ApiParam setEnumInfoAndValues(EnumInfoAndValues enumInfoAndValues) {
 		if (Objects.isNull(enumInfoAndValues)) {
 			return this;
@@ -407,6 +426,42 @@ public class ApiParam implements Serializable {
 		}
 	}
 
+	/**
+	 * Copy the param and its children, the enum info is shared.
+	 * @return copy of the param
+	 * @since 4.0
+	 */
+	public ApiParam copy() {
+		ApiParam copy = new ApiParam();
+		copy.className = className;
+		copy.id = id;
+		copy.field = field;
+		copy.type = type;
+		copy.format = format;
+		copy.fullyTypeName = fullyTypeName;
+		copy.desc = desc;
+		copy.required = required;
+		copy.version = version;
+		copy.pid = pid;
+		copy.pathParam = pathParam;
+		copy.queryParam = queryParam;
+		copy.value = value;
+		copy.hasItems = hasItems;
+		copy.enumValues = Objects.isNull(enumValues) ? null : new ArrayList<>(enumValues);
+		copy.enumInfo = enumInfo;
+		copy.maxLength = maxLength;
+		copy.configParam = configParam;
+		copy.selfReferenceLoop = selfReferenceLoop;
+		copy.extensions = Objects.isNull(extensions) ? null : new LinkedHashMap<>(extensions);
+		if (Objects.nonNull(children)) {
+			copy.children = new ArrayList<>(children.size());
+			for (ApiParam child : children) {
+				copy.children.add(child.copy());
+			}
+		}
+		return copy;
+	}
+
 	@Override
 	public String toString() {
 		return "ApiParam{" + "className='" + className + '\'' + ", id=" + id + ", field='" + field + '\'' + ", type='"
@@ -0,0 +1,342 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.model;
+
+import io.github.smartdoc.constants.DocGlobalConstants;
+import io.github.smartdoc.constants.DocLanguage;
+import io.github.smartdoc.helper.ApiExampleCache;
+import io.github.smartdoc.helper.PackageFilterMatcher;
+import io.github.smartdoc.model.dependency.VcsChanges;
+import io.github.smartdoc.utils.ParallelUtil;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * State of one documentation build. It replaces the JVM wide singletons, so that several
+ * builds, e.g. the modules of a multi-module project, can run concurrently in one JVM.
+ * The context is created by {@link io.github.smartdoc.builder.ProjectDocConfigBuilder}
+ * and bound to the building thread while the build runs, the binding is always undone in
+ * a finally block that restores the context bound before. The static helpers that have no
+ * access to the builder read it through {@link #current()} and fall back to the behavior
+ * without a build when it is null.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class DocBuildContext {
+
+	/**
+	 * context of the build running in the current thread
+	 */
+	private static final ThreadLocal<DocBuildContext> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * api config of the build
+	 */
+	private final ApiConfig apiConfig;
+
+	/**
+	 * key:tag value:TagDoc
+	 */
+	private final Map<String, TagDoc> tagDocs = new ConcurrentHashMap<>(64);
+
+	/**
+	 * data dictionaries, computed once per build
+	 */
+	private volatile List<ApiDocDict> dictionaries;
+
+	/**
+	 * error codes, computed once per build
+	 */
+	private volatile List<ApiErrorCode> errorCodes;
+
+	/**
+	 * openapi component names, key: class name, value: names by structural hash
+	 */
+	private final Map<String, Map<String, String>> componentNames = new ConcurrentHashMap<>(64);
+
+	/**
+	 * numbers of the openapi operation ids, key: method name
+	 */
+	private final Map<String, Integer> operationIdOrders = new ConcurrentHashMap<>(64);
+
+	/**
+	 * schema of the primitive openapi component
+	 */
+	private final Map<String, String> stringComponent = newStringComponent();
+
+	/**
+	 * compiled package filters, key: filter string
+	 */
+	private final Map<String, PackageFilterMatcher> packageFilterMatchers = new ConcurrentHashMap<>(4);
+
+	/**
+	 * json examples and params of the request and response types
+	 */
+	private final ApiExampleCache exampleCache = new ApiExampleCache();
+
+	/**
+	 * thread pool shared by the concurrent tasks of the build
+	 */
+	private volatile ExecutorService executor;
+
+	/**
+	 * changes of the sources since the last incremental build, computed once per build
+	 */
+	private volatile VcsChanges vcsChanges;
+
+	public DocBuildContext(ApiConfig apiConfig) {
+		this.apiConfig = Objects.requireNonNull(apiConfig, "ApiConfig can't be null.");
+	}
+
+	/**
+	 * Get the context bound to the current thread.
+	 * @return context or null if no build is running in the current thread
+	 */
+	public static DocBuildContext current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Bind the context to the current thread.
+	 * @param context context, null to unbind
+	 * @return the context bound before
+	 */
+	public static DocBuildContext bind(DocBuildContext context) {
+		DocBuildContext previous = CURRENT.get();
+		if (Objects.isNull(context)) {
+			CURRENT.remove();
+		}
+		else {
+			CURRENT.set(context);
+		}
+		return previous;
+	}
+
+	/**
+	 * Get the api config of the build running in the current thread.
+	 * @return api config or null
+	 */
+	public static ApiConfig currentApiConfig() {
+		DocBuildContext context = CURRENT.get();
+		return Objects.isNull(context) ? null : context.getApiConfig();
+	}
+
+	/**
+	 * Whether the mock values of the build running in the current thread are random. The
+	 * system property {@link DocGlobalConstants#RANDOM_MOCK} is used when there is no
+	 * build running.
+	 * @return boolean
+	 */
+	public static boolean isRandomMock() {
+		ApiConfig apiConfig = currentApiConfig();
+		if (Objects.nonNull(apiConfig)) {
+			return apiConfig.isRandomMock();
+		}
+		return Boolean.parseBoolean(System.getProperty(DocGlobalConstants.RANDOM_MOCK));
+	}
+
+	/**
+	 * Get the language of the build running in the current thread. The system property
+	 * {@link DocGlobalConstants#DOC_LANGUAGE} is used when there is no build running.
+	 * @return language code
+	 */
+	public static String currentLanguage() {
+		ApiConfig apiConfig = currentApiConfig();
+		if (Objects.nonNull(apiConfig) && Objects.nonNull(apiConfig.getLanguage())) {
+			return apiConfig.getLanguage().getCode();
+		}
+		String language = System.getProperty(DocGlobalConstants.DOC_LANGUAGE);
+		return StringUtils.isBlank(language) ? DocLanguage.CHINESE.getCode() : language;
+	}
+
+	/**
+	 * Register the class doc or method doc to the tag.
+	 * @param tag tag
+	 * @param apiDoc class doc, nullable
+	 * @param methodDoc method doc, nullable
+	 */
+	public void tagDocPut(String tag, ApiDoc apiDoc, ApiMethodDoc methodDoc) {
+		if (StringUtils.isBlank(tag)) {
+			return;
+		}
+		TagDoc tagDoc = tagDocs.computeIfAbsent(tag, TagDoc::new);
+		if (Objects.nonNull(apiDoc)) {
+			apiDoc.getTagRefs().add(tagDoc);
+			tagDoc.getClazzDocs().add(apiDoc);
+		}
+		if (Objects.nonNull(methodDoc)) {
+			methodDoc.getTagRefs().add(tagDoc);
+			tagDoc.getMethodDocs().add(methodDoc);
+		}
+	}
+
+	/**
+	 * Get the data dictionaries of the build, they are loaded by the loader on first
+	 * access and shared by all the builders afterwards.
+	 * @param loader loader of the dictionaries
+	 * @return unmodifiable list of ApiDocDict
+	 */
+	public List<ApiDocDict> getDictionaries(Supplier<List<ApiDocDict>> loader) {
+		List<ApiDocDict> result = dictionaries;
+		if (Objects.isNull(result)) {
+			synchronized (this) {
+				result = dictionaries;
+				if (Objects.isNull(result)) {
+					result = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+					dictionaries = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get the error codes of the build, they are loaded by the loader on first access and
+	 * shared by all the builders afterwards.
+	 * @param loader loader of the error codes
+	 * @return unmodifiable list of ApiErrorCode
+	 */
+	public List<ApiErrorCode> getErrorCodes(Supplier<List<ApiErrorCode>> loader) {
+		List<ApiErrorCode> result = errorCodes;
+		if (Objects.isNull(result)) {
+			synchronized (this) {
+				result = errorCodes;
+				if (Objects.isNull(result)) {
+					result = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+					errorCodes = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get the openapi component name of a class schema. The first structure of a class is
+	 * named by the class, the other structures of the same class, e.g. for another
+	 * generic argument, validation group, json view or direction, are numbered.
+	 * @param className simple class name
+	 * @param structureHash structural hash of the schema params
+	 * @return component name
+	 */
+	public String getComponentName(String className, String structureHash) {
+		Map<String, String> names = componentNames.computeIfAbsent(className, k -> new LinkedHashMap<>());
+		synchronized (names) {
+			return names.computeIfAbsent(structureHash,
+					k -> names.isEmpty() ? className : className + "_" + (names.size() + 1));
+		}
+	}
+
+	/**
+	 * Get the openapi operation id of a method, the methods of the same name get the name
+	 * followed by their number in the order they are requested.
+	 * @param methodName method name
+	 * @return operation id
+	 */
+	public String nextOperationId(String methodName) {
+		int order = operationIdOrders.merge(methodName, 1, Integer::sum);
+		return order == 1 ? methodName : methodName + "_" + (order - 1);
+	}
+
+	/**
+	 * Create the schema of the primitive openapi component.
+	 * @return schema
+	 */
+	public static Map<String, String> newStringComponent() {
+		Map<String, String> component = new HashMap<>(16);
+		component.put("type", "string");
+		component.put("format", "string");
+		return component;
+	}
+
+	/**
+	 * Get the compiled package filter, it is compiled once per build.
+	 * @param packageFilters comma separated filters
+	 * @return PackageFilterMatcher
+	 */
+	public PackageFilterMatcher getPackageFilterMatcher(String packageFilters) {
+		return packageFilterMatchers.computeIfAbsent(packageFilters, PackageFilterMatcher::new);
+	}
+
+	/**
+	 * Get the thread pool of the build, it is created on first use and shared by all the
+	 * concurrent tasks of the build, e.g. rendering and pushing.
+	 * @return executor service
+	 */
+	public ExecutorService getExecutor() {
+		ExecutorService result = executor;
+		if (Objects.isNull(result)) {
+			synchronized (this) {
+				result = executor;
+				if (Objects.isNull(result)) {
+					result = ParallelUtil.newBuildExecutor("build");
+					executor = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Clear the tags, when building multiple modules with the same context the tags of
+	 * the previous module must not be reused.
+	 */
+	public void clearTagDocs() {
+		tagDocs.clear();
+	}
+
+	public ApiConfig getApiConfig() {
+		return apiConfig;
+	}
+
+	public Map<String, TagDoc> getTagDocs() {
+		return tagDocs;
+	}
+
+	public ApiExampleCache getExampleCache() {
+		return exampleCache;
+	}
+
+	public Map<String, String> getStringComponent() {
+		return stringComponent;
+	}
+
+	public VcsChanges getVcsChanges() {
+		return vcsChanges;
+	}
+
+	public void setVcsChanges(VcsChanges vcsChanges) {
+		this.vcsChanges = vcsChanges;
+	}
+
+}
@@ -26,6 +26,7 @@ import com.thoughtworks.qdox.model.JavaField;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The doc of java field
@@ -96,6 +97,13 @@ public class DocJavaField {
 
 	private String typeSimpleName;
 
+	/**
+	 * tag values of the field, resolved once per build
+	 *
+	 * @since 4.0
+	 */
+	private volatile Map<String, String> tagsValue;
+
 	public static DocJavaField builder() {
 		return new DocJavaField();
 	}
@@ -253,4 +261,13 @@ public class DocJavaField {
 		return this;
 	}
 
+	public Map<String, String> getTagsValue() {
+		return tagsValue;
+	}
+
+	public DocJavaField setTagsValue(Map<String, String> tagsValue) {
+		this.tagsValue = tagsValue;
+		return this;
+	}
+
 }
@@ -23,27 +23,43 @@ package io.github.smartdoc.model;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.AbstractMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Doc tag mapping
  *
  * @author CKM Relational Mapping 2023/03/20 10:13:00
+ * @deprecated the tags are kept per build, use {@link DocBuildContext#tagDocPut} and
+ * {@link DocBuildContext#getTagDocs()}
  */
+@Deprecated
 public class DocMapping {
 
 	/**
-	 * key:tag value:ApiDoc
+	 * tags registered when no build is running in the current thread
 	 */
-	public static Map<String, TagDoc> TAG_DOC = new ConcurrentHashMap<>(64);
+	private static final Map<String, TagDoc> DEFAULT_TAG_DOC = new ConcurrentHashMap<>(64);
+
+	/**
+	 * key:tag value:ApiDoc, the tags of the build running in the current thread, or the
+	 * tags registered without a build when there is none
+	 */
+	public static Map<String, TagDoc> TAG_DOC = new CurrentTagDocs();
 
 	public static void tagDocPut(String tag, ApiDoc apiDoc, ApiMethodDoc methodDoc) {
+		DocBuildContext context = DocBuildContext.current();
+		if (Objects.nonNull(context)) {
+			context.tagDocPut(tag, apiDoc, methodDoc);
+			return;
+		}
 		if (StringUtils.isBlank(tag)) {
 			return;
 		}
-		TagDoc tagDoc = TAG_DOC.computeIfAbsent(tag, TagDoc::new);
+		TagDoc tagDoc = DEFAULT_TAG_DOC.computeIfAbsent(tag, TagDoc::new);
 		if (Objects.nonNull(apiDoc)) {
 			apiDoc.getTagRefs().add(tagDoc);
 			tagDoc.getClazzDocs().add(apiDoc);
@@ -55,7 +71,44 @@ public class DocMapping {
 	}
 
 	public static void init() {
-		TAG_DOC = new ConcurrentHashMap<>(64);
+		TAG_DOC.clear();
+	}
+
+	/**
+	 * View of the tags of the build running in the current thread.
+	 */
+	private static class CurrentTagDocs extends AbstractMap<String, TagDoc> {
+
+		private static Map<String, TagDoc> target() {
+			DocBuildContext context = DocBuildContext.current();
+			return Objects.isNull(context) ? DEFAULT_TAG_DOC : context.getTagDocs();
+		}
+
+		@Override
+		public TagDoc get(Object key) {
+			return target().get(key);
+		}
+
+		@Override
+		public TagDoc put(String key, TagDoc value) {
+			return target().put(key, value);
+		}
+
+		@Override
+		public TagDoc remove(Object key) {
+			return target().remove(key);
+		}
+
+		@Override
+		public void clear() {
+			target().clear();
+		}
+
+		@Override
+		public Set<Entry<String, TagDoc>> entrySet() {
+			return target().entrySet();
+		}
+
 	}
 
 }
@@ -43,6 +43,14 @@ public class ApiDependency {
 	 */
 	private List<ApiInfo> apis;
 
+	/**
+	 * Full qualified names of the source types transitively referenced by the apis, the
+	 * nested types are recorded by their top level type.
+	 *
+	 * @since 4.0
+	 */
+	private List<String> types;
+
 	public ApiDependency() {
 	}
 
@@ -149,6 +157,14 @@ public class ApiDependency {
 		this.apis = apis;
 	}
 
+	public List<String> getTypes() {
+		return types;
+	}
+
+	public void setTypes(List<String> types) {
+		this.types = types;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
@@ -159,12 +175,12 @@ public class ApiDependency {
 		}
 		ApiDependency that = (ApiDependency) o;
 		return Objects.equals(clazz, that.clazz) && Objects.equals(derivedClazz, that.derivedClazz)
-				&& Objects.equals(apis, that.apis);
+				&& Objects.equals(apis, that.apis) && Objects.equals(types, that.types);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(clazz, derivedClazz, apis);
+		return Objects.hash(clazz, derivedClazz, apis, types);
 	}
 
 }
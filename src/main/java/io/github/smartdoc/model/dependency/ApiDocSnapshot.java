@@ -0,0 +1,315 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.model.dependency;
+
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.ApiMethodDoc;
+import io.github.smartdoc.utils.DocUtil;
+import io.github.smartdoc.utils.JsonUtil;
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import com.google.gson.ToNumberPolicy;
+import com.power.common.util.FileUtil;
+import com.power.common.util.StringUtil;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Snapshots of the analyzed controller docs, stored in the baseDir next to the
+ * dependency-tree file. An incremental build only analyzes the changed controllers, the
+ * snapshots of the other controllers are merged with them, so the all-in-one outputs are
+ * still complete.
+ * <p>
+ * Each controller is stored in its own file together with the content hash, only the
+ * snapshots whose content changed are written again. The index records the hash of the
+ * settings of the build, the snapshots of a build with other settings are not reused.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class ApiDocSnapshot {
+
+	private static final Logger log = Logger.getLogger(ApiDocSnapshot.class.getName());
+
+	private static final String SNAPSHOT_DIR = ".smart-doc-snapshot";
+
+	private static final String INDEX_NAME = "index.json";
+
+	private static final String SCHEMA = "v1";
+
+	/**
+	 * keep the integral numbers of the custom schemas and extensions as integers
+	 */
+	private static final Gson GSON = new GsonBuilder().disableHtmlEscaping()
+		.setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
+		.create();
+
+	/**
+	 * the settings which only affect the output files or the upload, they are not hashed
+	 */
+	private static final Set<String> OUTPUT_SETTINGS = new HashSet<>(
+			Arrays.asList("outPath", "coverOld", "allInOneDocFileName", "style", "highlightStyleLink", "appKey",
+					"secret", "appToken", "openUrl", "tornaDebug", "replace", "apiUploadNums", "tornaUploadThreads",
+					"tornaUploadRetries", "tornaGzip", "tornaFullResync", "renderThreads", "sourceCache", "increment",
+					"openApiCompact", "openApiYaml", "jmeter", "customJavaMethodHandler"));
+
+	/**
+	 * serialize the settings of the build, the classes by name and the sets in a stable
+	 * order
+	 */
+	private static final Gson SETTINGS_GSON = new GsonBuilder().disableHtmlEscaping()
+		.setExclusionStrategies(new ExclusionStrategy() {
+			@Override
+			public boolean shouldSkipField(FieldAttributes field) {
+				return field.getDeclaringClass() == ApiConfig.class && OUTPUT_SETTINGS.contains(field.getName());
+			}
+
+			@Override
+			public boolean shouldSkipClass(Class<?> clazz) {
+				return false;
+			}
+		})
+		.registerTypeHierarchyAdapter(Class.class,
+				(JsonSerializer<Class<?>>) (clazz, type, context) -> new JsonPrimitive(clazz.getName()))
+		.registerTypeHierarchyAdapter(Set.class, (JsonSerializer<Set<?>>) (set, type, context) -> {
+			List<String> items = new ArrayList<>();
+			for (Object item : set) {
+				items.add(context.serialize(item).toString());
+			}
+			Collections.sort(items);
+			return context.serialize(items);
+		})
+		.create();
+
+	/**
+	 * whether increment build
+	 */
+	private transient boolean increment;
+
+	/**
+	 * snapshot directory
+	 */
+	private transient File snapshotDir;
+
+	/**
+	 * snapshots of the previous build, key: controller class, value: content hash
+	 */
+	private transient Map<String, String> previous = Collections.emptyMap();
+
+	/**
+	 * whether the snapshots of the previous build were built with the same settings
+	 */
+	private transient boolean reusable;
+
+	/**
+	 * snapshot content of the analyzed controllers, key: controller class
+	 */
+	private final transient Map<String, String> contents = new LinkedHashMap<>();
+
+	/**
+	 * The schema version of the snapshot index.
+	 */
+	private String schema = SCHEMA;
+
+	/**
+	 * The hash of the settings the snapshots were built with.
+	 */
+	private String settings;
+
+	/**
+	 * Snapshots of the current build in the doc order, key: controller class, value:
+	 * content hash.
+	 */
+	private Map<String, String> snapshots = new LinkedHashMap<>();
+
+	private ApiDocSnapshot() {
+
+	}
+
+	/**
+	 * Hash the settings the controller docs depend on. All the settings are hashed except
+	 * the ones which only affect the output files or the upload, so any other change of
+	 * the configuration drops the snapshots. The output builders change some settings
+	 * before the analysis, so the hash also tells the builders apart.
+	 * @param config ApiConfig
+	 * @param template the doc build template
+	 * @return the settings hash
+	 */
+	public static String settingsHash(ApiConfig config, String template) {
+		String handler = Objects.isNull(config.getCustomJavaMethodHandler()) ? ""
+				: config.getCustomJavaMethodHandler().getClass().getName();
+		return DigestUtils.sha1Hex(template + "|" + handler + "|" + SETTINGS_GSON.toJson(config));
+	}
+
+	/**
+	 * Load the snapshots of the previous build. The snapshots built with other settings
+	 * are listed by {@link #getClasses()} but not loaded.
+	 * @param baseDir the snapshot base directory
+	 * @param isIncrement whether increment build
+	 * @param settings the settings hash of the current build
+	 * @return ApiDocSnapshot
+	 */
+	public static ApiDocSnapshot detect(String baseDir, boolean isIncrement, String settings) {
+		ApiDocSnapshot snapshot = new ApiDocSnapshot();
+		snapshot.settings = settings;
+		if (!isIncrement || StringUtil.isEmpty(baseDir)) {
+			return snapshot;
+		}
+		snapshot.increment = true;
+		snapshot.snapshotDir = new File(baseDir + File.separator + SNAPSHOT_DIR);
+		File indexFile = new File(snapshot.snapshotDir, INDEX_NAME);
+		if (indexFile.exists()) {
+			try {
+				ApiDocSnapshot stored = JsonUtil.toObject(readFile(indexFile), ApiDocSnapshot.class);
+				if (Objects.nonNull(stored) && SCHEMA.equals(stored.schema) && Objects.nonNull(stored.snapshots)) {
+					snapshot.previous = stored.snapshots;
+					snapshot.reusable = Objects.equals(settings, stored.settings);
+				}
+			}
+			catch (Exception e) {
+				log.warning("Failed to read the api doc snapshots, a full build is needed: " + e.getMessage());
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Write the snapshots of the current build, the snapshots which are not put or kept
+	 * by the current build are deleted.
+	 * @param snapshot the snapshot
+	 */
+	public static void write(ApiDocSnapshot snapshot) {
+		if (!snapshot.isIncrement()) {
+			return;
+		}
+		if (!snapshot.snapshotDir.exists() && !snapshot.snapshotDir.mkdirs()) {
+			log.warning("Failed to create the snapshot directory " + snapshot.snapshotDir);
+			return;
+		}
+		snapshot.contents.forEach((clazz, content) -> {
+			String hash = snapshot.snapshots.get(clazz);
+			File file = snapshot.getFile(clazz);
+			if (!hash.equals(snapshot.previous.get(clazz)) || !file.exists()) {
+				FileUtil.writeFileNotAppend(content, file.getAbsolutePath());
+			}
+		});
+		for (String clazz : snapshot.previous.keySet()) {
+			if (!snapshot.snapshots.containsKey(clazz)) {
+				snapshot.getFile(clazz).delete();
+			}
+		}
+		FileUtil.writeFileNotAppend(JsonUtil.toPrettyJson(snapshot),
+				new File(snapshot.snapshotDir, INDEX_NAME).getAbsolutePath());
+	}
+
+	/**
+	 * Get the controller classes of the previous build in the doc order.
+	 * @return the controller classes
+	 */
+	public Set<String> getClasses() {
+		return Collections.unmodifiableSet(previous.keySet());
+	}
+
+	/**
+	 * Record the snapshot of an analyzed controller, it must be put before the doc is
+	 * changed by the tag grouping and ordering.
+	 * @param apiDoc the analyzed controller doc
+	 */
+	public void put(ApiDoc apiDoc) {
+		if (!increment) {
+			return;
+		}
+		String content = GSON.toJson(apiDoc);
+		contents.put(apiDoc.getDocClass(), content);
+		snapshots.put(apiDoc.getDocClass(), DigestUtils.sha1Hex(content));
+	}
+
+	/**
+	 * Load the snapshot of a controller which is not analyzed in the current build and
+	 * keep it.
+	 * @param clazz the controller class
+	 * @return the controller doc, null if there is no readable snapshot built with the
+	 * same settings
+	 */
+	public ApiDoc load(String clazz) {
+		String hash = previous.get(clazz);
+		File file = getFile(clazz);
+		if (!increment || !reusable || Objects.isNull(hash) || !file.exists()) {
+			return null;
+		}
+		try {
+			ApiDoc apiDoc = GSON.fromJson(readFile(file), ApiDoc.class);
+			if (Objects.isNull(apiDoc)) {
+				return null;
+			}
+			if (Objects.nonNull(apiDoc.getList())) {
+				for (ApiMethodDoc methodDoc : apiDoc.getList()) {
+					methodDoc.setClazzDoc(apiDoc);
+				}
+			}
+			snapshots.put(clazz, hash);
+			return apiDoc;
+		}
+		catch (Exception e) {
+			log.warning("Failed to read the api doc snapshot of " + clazz + ": " + e.getMessage());
+			return null;
+		}
+	}
+
+	public boolean isIncrement() {
+		return increment;
+	}
+
+	/**
+	 * Get the snapshot file of the controller.
+	 * @param clazz the controller class
+	 * @return the snapshot file
+	 */
+	private File getFile(String clazz) {
+		return new File(snapshotDir, DocUtil.generateId(clazz) + ".json");
+	}
+
+	private static String readFile(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+}
@@ -92,6 +92,8 @@ public class DependencyTree {
 		else {
 			dependencyTree = Support.load(configFile);
 		}
+		// the tree of an incremental build is written back with the new commit-id
+		dependencyTree.setIncrement(true);
 		return dependencyTree;
 	}
 
@@ -0,0 +1,73 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.model.dependency;
+
+import org.eclipse.jgit.diff.DiffEntry;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The changes of the source paths since the commit of the last incremental build. They
+ * are computed once per build, the source loading and the analysis read the same changes.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class VcsChanges {
+
+	/**
+	 * the committed changes
+	 */
+	private final List<DiffEntry> diff;
+
+	/**
+	 * repository relative paths of the uncommitted changes
+	 */
+	private final Set<String> uncommitted;
+
+	/**
+	 * repository relative paths of the untracked files
+	 */
+	private final Set<String> untracked;
+
+	public VcsChanges(List<DiffEntry> diff, Set<String> uncommitted, Set<String> untracked) {
+		this.diff = Collections.unmodifiableList(diff);
+		this.uncommitted = Collections.unmodifiableSet(uncommitted);
+		this.untracked = Collections.unmodifiableSet(untracked);
+	}
+
+	public List<DiffEntry> getDiff() {
+		return diff;
+	}
+
+	public Set<String> getUncommitted() {
+		return uncommitted;
+	}
+
+	public Set<String> getUntracked() {
+		return untracked;
+	}
+
+}
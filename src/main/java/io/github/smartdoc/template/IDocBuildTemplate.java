@@ -23,7 +23,7 @@ package io.github.smartdoc.template;
 import io.github.smartdoc.builder.ProjectDocConfigBuilder;
 import io.github.smartdoc.helper.DocBuildHelper;
 import io.github.smartdoc.model.ApiSchema;
-import io.github.smartdoc.model.DocMapping;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.model.IDoc;
 import com.thoughtworks.qdox.model.JavaClass;
 
@@ -45,22 +45,29 @@ public interface IDocBuildTemplate<T extends IDoc> extends IDocBuildBaseTemplate
 	 * @return api data
 	 */
 	default ApiSchema<T> getApiData(ProjectDocConfigBuilder projectBuilder) {
-		// For DocMapping initialization, when building multiple modules together, it is
-		// necessary to initialize and clear the cache
-		DocMapping.init();
-		DocBuildHelper docBuildHelper = DocBuildHelper.create(projectBuilder);
+		DocBuildContext previous = DocBuildContext.bind(projectBuilder.getBuildContext());
+		try {
+			// when building multiple modules together, the tags of the previous module
+			// must be cleared
+			projectBuilder.getBuildContext().clearTagDocs();
+			DocBuildHelper docBuildHelper = DocBuildHelper.create(projectBuilder);
 
-		this.preRender(docBuildHelper);
-		// get candidate classes
-		Collection<JavaClass> candidateClasses = this.getCandidateClasses(projectBuilder, docBuildHelper);
-		ApiSchema<T> apiSchema = this.renderApi(projectBuilder, candidateClasses);
+			this.preRender(docBuildHelper);
+			// get candidate classes
+			Collection<JavaClass> candidateClasses = this.getCandidateClasses(projectBuilder, docBuildHelper);
+			ApiSchema<T> apiSchema = this.renderApi(projectBuilder, candidateClasses);
 
-		if (Objects.isNull(apiSchema)) {
-			apiSchema = new ApiSchema<>();
-		}
-		this.postRender(docBuildHelper, apiSchema.getApiDatas());
+			if (Objects.isNull(apiSchema)) {
+				apiSchema = new ApiSchema<>();
+			}
+			this.postRender(docBuildHelper, apiSchema.getApiDatas());
+			projectBuilder.logCacheStatistics();
 
-		return apiSchema;
+			return apiSchema;
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
 	}
 
 	/**
@@ -47,11 +47,12 @@ import io.github.smartdoc.model.ApiReqParam;
 import io.github.smartdoc.model.ApiSchema;
 import io.github.smartdoc.model.DocJavaMethod;
 import io.github.smartdoc.model.DocJavaParameter;
-import io.github.smartdoc.model.DocMapping;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.model.ExceptionAdviceMethod;
 import io.github.smartdoc.model.FormData;
 import io.github.smartdoc.model.annotation.EntryAnnotation;
 import io.github.smartdoc.model.annotation.ExceptionAdviceAnnotation;
+import io.github.smartdoc.model.dependency.ApiDocSnapshot;
 import io.github.smartdoc.model.annotation.FrameworkAnnotations;
 import io.github.smartdoc.model.annotation.MappingAnnotation;
 import io.github.smartdoc.model.request.ApiRequestExample;
@@ -86,6 +87,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -100,6 +102,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -118,11 +121,6 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 	 */
 	Logger log = Logger.getLogger(IRestDocTemplate.class.getName());
 
-	/**
-	 * Atomic integer.
-	 */
-	AtomicInteger ATOMIC_INTEGER = new AtomicInteger(1);
-
 	/**
 	 * Processes API data to generate documentation schemas.
 	 * @param projectBuilder Configuration builder for the project, used to obtain project
@@ -149,20 +147,7 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 		ApiSchema<ApiDoc> apiSchema = new ApiSchema<>();
 		// exclude class is ignore
 		for (JavaClass cls : javaClasses) {
-			if (StringUtil.isNotEmpty(apiConfig.getPackageFilters())) {
-				// from smart config
-				if (!DocUtil.isMatch(apiConfig.getPackageFilters(), cls)) {
-					continue;
-				}
-			}
-			if (StringUtil.isNotEmpty(apiConfig.getPackageExcludeFilters())) {
-				if (DocUtil.isMatch(apiConfig.getPackageExcludeFilters(), cls)) {
-					continue;
-				}
-			}
-			// from tag
-			DocletTag ignoreTag = cls.getTagByName(DocTags.IGNORE);
-			if (!this.isEntryPoint(cls, frameworkAnnotations) || Objects.nonNull(ignoreTag)) {
+			if (!this.isApiEntryPoint(apiConfig, cls, frameworkAnnotations)) {
 				continue;
 			}
 			int order = 0;
@@ -180,6 +165,23 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 			}
 			this.handleApiDoc(cls, apiDocList, apiMethodDocs, order, apiConfig.isMd5EncryptedHtmlName());
 		}
+		DocBuildContext buildContext = projectBuilder.getBuildContext();
+		apiDocList.forEach(apiDoc -> this.registerApiDocTags(buildContext, apiDoc));
+		ApiDocSnapshot snapshot = ApiDocSnapshot.detect(apiConfig.getBaseDir(), apiConfig.isIncrement(),
+				ApiDocSnapshot.settingsHash(apiConfig, this.getClass().getName()));
+		if (snapshot.isIncrement()) {
+			// complete the changed controllers with the snapshots of the unchanged ones
+			apiDocList = this.mergeApiDocSnapshot(projectBuilder, snapshot, apiDocList, javaClasses,
+					frameworkAnnotations, cls -> this.buildEntryPointMethod(cls, apiConfig, projectBuilder,
+							frameworkAnnotations, configApiReqParams, baseMappingHandler, headerHandler));
+			ApiDocSnapshot.write(snapshot);
+			for (ApiDoc apiDoc : apiDocList) {
+				if (apiDoc.getOrder() > 0) {
+					setCustomOrder = true;
+					maxOrder = Math.max(maxOrder, apiDoc.getOrder());
+				}
+			}
+		}
 		apiDocList = this.handleTagsApiDoc(apiDocList);
 
 		apiSchema.setApiExceptionStatuses(this.buildExceptionStatus(projectBuilder, javaClasses, frameworkAnnotations));
@@ -190,20 +192,21 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 			apiSchema.setApiDatas(apiDocList);
 			return apiSchema;
 		}
-		else if (setCustomOrder) {
-			ATOMIC_INTEGER.getAndAdd(maxOrder);
+		AtomicInteger docOrder = new AtomicInteger(1);
+		if (setCustomOrder) {
+			docOrder.getAndAdd(maxOrder);
 			// while set custom oder
 			final List<ApiDoc> tempList = new ArrayList<>(apiDocList);
 			tempList.forEach(p -> {
 				if (p.getOrder() == 0) {
-					p.setOrder(ATOMIC_INTEGER.getAndAdd(1));
+					p.setOrder(docOrder.getAndAdd(1));
 				}
 			});
 			apiSchema.setApiDatas(
 					tempList.stream().sorted(Comparator.comparing(ApiDoc::getOrder)).collect(Collectors.toList()));
 		}
 		else {
-			apiDocList.forEach(p -> p.setOrder(ATOMIC_INTEGER.getAndAdd(1)));
+			apiDocList.forEach(p -> p.setOrder(docOrder.getAndAdd(1)));
 			apiSchema.setApiDatas(apiDocList);
 		}
 		return apiSchema;
@@ -292,12 +295,25 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 		apiDoc.setDetail(detail);
 		apiDoc.setList(apiMethodDocs);
 		apiDocList.add(apiDoc);
+	}
 
+	/**
+	 * Registers the class doc and its method docs to their tags in the build context, the
+	 * class name is a tag of the class doc as well.
+	 * @param buildContext The build context.
+	 * @param apiDoc The class doc.
+	 */
+	default void registerApiDocTags(DocBuildContext buildContext, ApiDoc apiDoc) {
+		Set<String> tagSet = new LinkedHashSet<>();
+		if (ArrayUtils.isNotEmpty(apiDoc.getTags())) {
+			tagSet.addAll(Arrays.asList(apiDoc.getTags()));
+		}
 		tagSet.add(StringUtils.trim(apiDoc.getName()));
+		List<ApiMethodDoc> apiMethodDocs = apiDoc.getList();
 		for (String tag : tagSet) {
-			DocMapping.tagDocPut(tag, apiDoc, null);
+			buildContext.tagDocPut(tag, apiDoc, null);
 			for (ApiMethodDoc methodDoc : apiMethodDocs) {
-				DocMapping.tagDocPut(tag, null, methodDoc);
+				buildContext.tagDocPut(tag, null, methodDoc);
 			}
 		}
 		for (ApiMethodDoc methodDoc : apiMethodDocs) {
@@ -307,11 +323,104 @@ public interface IRestDocTemplate extends IBaseDocBuildTemplate {
 				continue;
 			}
 			for (String tag : docTags) {
-				DocMapping.tagDocPut(tag, null, methodDoc);
+				buildContext.tagDocPut(tag, null, methodDoc);
 			}
 		}
 	}
 
+	/**
+	 * Checks whether the class passes the package filters of the config and is an entry
+	 * point which is not ignored by the {@code @ignore} tag.
+	 * @param apiConfig The api config.
+	 * @param cls The Java class to check.
+	 * @param frameworkAnnotations The framework annotations.
+	 * @return true if the class is documented
+	 */
+	default boolean isApiEntryPoint(ApiConfig apiConfig, JavaClass cls, FrameworkAnnotations frameworkAnnotations) {
+		if (StringUtil.isNotEmpty(apiConfig.getPackageFilters())) {
+			// from smart config
+			if (!DocUtil.isMatch(apiConfig.getPackageFilters(), cls)) {
+				return false;
+			}
+		}
+		if (StringUtil.isNotEmpty(apiConfig.getPackageExcludeFilters())) {
+			if (DocUtil.isMatch(apiConfig.getPackageExcludeFilters(), cls)) {
+				return false;
+			}
+		}
+		// from tag
+		DocletTag ignoreTag = cls.getTagByName(DocTags.IGNORE);
+		return this.isEntryPoint(cls, frameworkAnnotations) && Objects.isNull(ignoreTag);
+	}
+
+	/**
+	 * Merges the docs of the controllers analyzed by an incremental build with the
+	 * snapshots of the controllers which are not analyzed. The docs keep the order of the
+	 * previous build, the new controllers are appended. The snapshot of a controller is
+	 * dropped when the controller is analyzed again, deleted or no longer documented. A
+	 * controller whose snapshot can't be reused, e.g. it was built with other output
+	 * settings, is analyzed.
+	 * @param projectBuilder The project builder.
+	 * @param snapshot The snapshots of the previous build.
+	 * @param apiDocList The docs of the analyzed controllers.
+	 * @param javaClasses The candidate classes of the build.
+	 * @param frameworkAnnotations The framework annotations.
+	 * @param methodBuilder Analyzes the methods of a controller.
+	 * @return the merged docs
+	 */
+	default List<ApiDoc> mergeApiDocSnapshot(ProjectDocConfigBuilder projectBuilder, ApiDocSnapshot snapshot,
+			List<ApiDoc> apiDocList, Collection<JavaClass> javaClasses, FrameworkAnnotations frameworkAnnotations,
+			Function<JavaClass, List<ApiMethodDoc>> methodBuilder) {
+		ApiConfig apiConfig = projectBuilder.getApiConfig();
+		Map<String, ApiDoc> analyzedDocs = new LinkedHashMap<>();
+		apiDocList.forEach(apiDoc -> analyzedDocs.put(apiDoc.getDocClass(), apiDoc));
+		Set<String> candidates = javaClasses.stream().map(JavaClass::getFullyQualifiedName).collect(Collectors.toSet());
+		List<ApiDoc> mergedDocs = new ArrayList<>();
+		for (String clazz : snapshot.getClasses()) {
+			ApiDoc analyzedDoc = analyzedDocs.remove(clazz);
+			if (Objects.nonNull(analyzedDoc)) {
+				snapshot.put(analyzedDoc);
+				mergedDocs.add(analyzedDoc);
+				continue;
+			}
+			if (candidates.contains(clazz)) {
+				// analyzed again but no longer documented
+				continue;
+			}
+			JavaClass cls;
+			try {
+				cls = projectBuilder.getJavaProjectBuilder().getClassByName(clazz);
+			}
+			catch (Exception e) {
+				continue;
+			}
+			if (Objects.isNull(cls) || Objects.isNull(cls.getSource())
+					|| !this.isApiEntryPoint(apiConfig, cls, frameworkAnnotations)) {
+				continue;
+			}
+			ApiDoc apiDoc = snapshot.load(clazz);
+			if (Objects.isNull(apiDoc)) {
+				List<ApiMethodDoc> apiMethodDocs = methodBuilder.apply(cls);
+				if (CollectionUtil.isEmpty(apiMethodDocs)) {
+					continue;
+				}
+				String strOrder = JavaClassUtil.getClassTagsValue(cls, DocTags.ORDER, Boolean.TRUE);
+				int order = ValidateUtil.isNonNegativeInteger(strOrder) ? Integer.parseInt(strOrder) : 0;
+				List<ApiDoc> analyzed = new ArrayList<>(1);
+				this.handleApiDoc(cls, analyzed, apiMethodDocs, order, apiConfig.isMd5EncryptedHtmlName());
+				apiDoc = analyzed.get(0);
+				snapshot.put(apiDoc);
+			}
+			this.registerApiDocTags(projectBuilder.getBuildContext(), apiDoc);
+			mergedDocs.add(apiDoc);
+		}
+		for (ApiDoc apiDoc : analyzedDocs.values()) {
+			snapshot.put(apiDoc);
+			mergedDocs.add(apiDoc);
+		}
+		return mergedDocs;
+	}
+
 	/**
 	 * Maps the given parameter to an API parameter object. This method processes a string
 	 * parameter, converting it into an entry in the API parameter list, and
@@ -22,7 +22,7 @@ package io.github.smartdoc.template;
 
 import io.github.smartdoc.builder.ProjectDocConfigBuilder;
 import io.github.smartdoc.helper.DocBuildHelper;
-import io.github.smartdoc.model.DocMapping;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.model.WebSocketDoc;
 import com.thoughtworks.qdox.model.JavaClass;
 
@@ -43,16 +43,24 @@ public interface IWebSocketDocBuildTemplate<T extends WebSocketDoc> extends IDoc
 	 * @return websocket data
 	 */
 	default List<T> getWebSocketData(ProjectDocConfigBuilder projectBuilder) {
-		// For DocMapping initialization, when building multiple modules together, it is
-		// necessary to initialize and clear the cache
-		DocMapping.init();
-		DocBuildHelper docBuildHelper = DocBuildHelper.create(projectBuilder);
+		DocBuildContext previous = DocBuildContext.bind(projectBuilder.getBuildContext());
+		try {
+			// when building multiple modules together, the tags of the previous module
+			// must be cleared
+			projectBuilder.getBuildContext().clearTagDocs();
+			DocBuildHelper docBuildHelper = DocBuildHelper.create(projectBuilder);
 
-		this.preRender(docBuildHelper);
+			this.preRender(docBuildHelper);
 
-		Collection<JavaClass> candidateClasses = this.getCandidateClasses(projectBuilder, docBuildHelper);
+			Collection<JavaClass> candidateClasses = this.getCandidateClasses(projectBuilder, docBuildHelper);
 
-		return this.renderWebSocketApi(projectBuilder, candidateClasses);
+			List<T> webSocketDocs = this.renderWebSocketApi(projectBuilder, candidateClasses);
+			projectBuilder.logCacheStatistics();
+			return webSocketDocs;
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
 	}
 
 	/**
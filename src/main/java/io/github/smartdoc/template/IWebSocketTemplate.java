@@ -72,11 +72,6 @@ import java.util.stream.Collectors;
  */
 public interface IWebSocketTemplate {
 
-	/**
-	 * param order AtomicInteger
-	 */
-	AtomicInteger ATOMIC_INTEGER = new AtomicInteger(1);
-
 	/**
 	 * logger
 	 */
@@ -138,20 +133,22 @@ public interface IWebSocketTemplate {
 		if (apiConfig.isSortByTitle()) {
 			// sort by title
 			Collections.sort(apiDocList);
+			return apiDocList;
 		}
-		else if (setCustomOrder) {
-			ATOMIC_INTEGER.getAndAdd(maxOrder);
+		AtomicInteger docOrder = new AtomicInteger(1);
+		if (setCustomOrder) {
+			docOrder.getAndAdd(maxOrder);
 			// while set custom oder
 			final List<WebSocketDoc> tempList = new ArrayList<>(apiDocList);
 			tempList.forEach(p -> {
 				if (p.getOrder() == 0) {
-					p.setOrder(ATOMIC_INTEGER.getAndAdd(1));
+					p.setOrder(docOrder.getAndAdd(1));
 				}
 			});
 			return tempList.stream().sorted(Comparator.comparing(WebSocketDoc::getOrder)).collect(Collectors.toList());
 		}
 		else {
-			apiDocList.forEach(p -> p.setOrder(ATOMIC_INTEGER.getAndAdd(1)));
+			apiDocList.forEach(p -> p.setOrder(docOrder.getAndAdd(1)));
 		}
 		return apiDocList;
 	}
@@ -26,10 +26,13 @@ import io.github.smartdoc.model.ApiMethodReqParam;
 import io.github.smartdoc.model.ApiParam;
 import io.github.smartdoc.model.ApiReqParam;
 import com.power.common.util.CollectionUtil;
+import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -48,7 +51,13 @@ public class ApiParamTreeUtil {
 	}
 
 	/**
-	 * Converts a list of ApiParam objects into a tree structure.
+	 * Max depth of the children below a root param, the deeper params are cut off.
+	 */
+	private static final int MAX_CHILD_DEPTH = 8;
+
+	/**
+	 * Converts a list of ApiParam objects into a tree structure. The params are grouped
+	 * by pid in one pass, then the children of each node are looked up by its id.
 	 * @param apiParamList The list of ApiParam objects to be converted.
 	 * @return A list of ApiParam objects representing the tree structure.
 	 */
@@ -56,20 +65,16 @@ public class ApiParamTreeUtil {
 		if (CollectionUtil.isEmpty(apiParamList)) {
 			return new ArrayList<>(0);
 		}
-		List<ApiParam> params = new ArrayList<>();
-		// find root
+		Map<Integer, List<ApiParam>> childrenByPid = new HashMap<>(apiParamList.size());
 		for (ApiParam apiParam : apiParamList) {
 			// remove pre of field
-			apiParam
-				.setField(apiParam.getField().replaceAll(DocGlobalConstants.PARAM_PREFIX, "").replaceAll("&nbsp;", ""));
-			// pid == 0
-			if (apiParam.getPid() == 0) {
-				params.add(apiParam);
-			}
+			apiParam.setField(removeFieldPrefix(apiParam.getField()));
+			childrenByPid.computeIfAbsent(apiParam.getPid(), k -> new ArrayList<>()).add(apiParam);
 		}
+		// pid == 0
+		List<ApiParam> params = new ArrayList<>(childrenByPid.getOrDefault(0, new ArrayList<>(0)));
 		for (ApiParam apiParam : params) {
-			// remove pre of field
-			apiParam.setChildren(getChild(apiParam.getId(), apiParamList, 0));
+			apiParam.setChildren(getChild(apiParam.getId(), childrenByPid, 0));
 		}
 		return params;
 	}
@@ -77,30 +82,36 @@ public class ApiParamTreeUtil {
 	/**
 	 * find child
 	 * @param id param id
-	 * @param apiParamList List of ApiParam
+	 * @param childrenByPid params grouped by pid
 	 * @param counter invoked counter
 	 * @return List of ApiParam
 	 */
-	private static List<ApiParam> getChild(int id, List<ApiParam> apiParamList, int counter) {
-		List<ApiParam> childList = new ArrayList<>();
-		if (counter > 7) {
-			return childList;
-		}
-		for (ApiParam param : apiParamList) {
-			if (param.getPid() == id) {
-				childList.add(param);
-			}
+	private static List<ApiParam> getChild(int id, Map<Integer, List<ApiParam>> childrenByPid, int counter) {
+		List<ApiParam> children = childrenByPid.get(id);
+		if (counter >= MAX_CHILD_DEPTH || Objects.isNull(children)) {
+			return new ArrayList<>(0);
 		}
+		// copy, params with duplicate ids must not share the same children list
+		List<ApiParam> childList = new ArrayList<>(children);
 		counter++;
 		for (ApiParam param : childList) {
-			param.setChildren(getChild(param.getId(), apiParamList, counter));
-		}
-		if (childList.isEmpty()) {
-			return new ArrayList<>(0);
+			param.setChildren(getChild(param.getId(), childrenByPid, counter));
 		}
 		return childList;
 	}
 
+	/**
+	 * Remove the tree prefix and the html spaces of the field name.
+	 * @param field field name
+	 * @return field name without prefix
+	 */
+	private static String removeFieldPrefix(String field) {
+		if (Objects.isNull(field)) {
+			return null;
+		}
+		return StringUtils.remove(StringUtils.remove(field, DocGlobalConstants.PARAM_PREFIX), "&nbsp;");
+	}
+
 	/**
 	 * Constructs method request parameters based on the parameter list, query parameter
 	 * map, and path parameter map. This method categorizes parameters into path, query,
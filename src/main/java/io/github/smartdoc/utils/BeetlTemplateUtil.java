@@ -22,12 +22,22 @@ package io.github.smartdoc.utils;
 
 import io.github.smartdoc.constants.DocGlobalConstants;
 import com.power.common.util.FileUtil;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.beetl.core.Configuration;
 import org.beetl.core.GroupTemplate;
 import org.beetl.core.Resource;
@@ -45,6 +55,23 @@ public class BeetlTemplateUtil {
 
 	private final static String HTML_SUFFIX = ".html";
 
+	/**
+	 * template resource root
+	 */
+	private final static String TEMPLATE_ROOT = "/template/";
+
+	/**
+	 * buffer size of the rendered output
+	 */
+	private final static int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * GroupTemplate registry, key is resource root and engine type. A GroupTemplate
+	 * caches the compiled programs of its templates, so each template is parsed and
+	 * compressed only once per process.
+	 */
+	private static final Map<String, GroupTemplate> GROUP_TEMPLATE_CACHE = new ConcurrentHashMap<>();
+
 	/**
 	 * private constructor
 	 */
@@ -58,20 +85,67 @@ public class BeetlTemplateUtil {
 	 * @return Beetl Template Object
 	 */
 	public static Template getByName(String templateName) {
+		boolean htmlCompress = templateName.endsWith(HTML_SUFFIX);
+		String key = TEMPLATE_ROOT + (htmlCompress ? "#html" : "#default");
+		GroupTemplate gt = GROUP_TEMPLATE_CACHE.computeIfAbsent(key,
+				k -> createGroupTemplate(TEMPLATE_ROOT, htmlCompress));
+		return gt.getTemplate(templateName);
+	}
+
+	/**
+	 * Create a GroupTemplate with smart-doc configuration.
+	 * @param root resource root
+	 * @param htmlCompress whether to compress the static html text of templates
+	 * @return group template
+	 */
+	private static GroupTemplate createGroupTemplate(String root, boolean htmlCompress) {
+		// Beetl loads the configured functions through the context class loader, the one
+		// of
+		// the caller (e.g. a build plugin) is restored afterwards
+		Thread thread = Thread.currentThread();
+		ClassLoader contextClassLoader = thread.getContextClassLoader();
 		try {
-			ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader("/template/");
+			ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader(root);
 			Configuration cfg = Configuration.defaultConfiguration();
 			cfg.add("/smart-doc-beetl.properties");
-			Thread.currentThread().setContextClassLoader(GroupTemplate.class.getClassLoader());
+			thread.setContextClassLoader(GroupTemplate.class.getClassLoader());
 			GroupTemplate gt = new GroupTemplate(resourceLoader, cfg);
-			if (templateName.endsWith(HTML_SUFFIX)) {
+			if (htmlCompress) {
 				gt.setEngine(new HtmlCompressTemplateEngine());
 			}
-			return gt.getTemplate(templateName);
+			return gt;
 		}
 		catch (IOException e) {
 			throw new RuntimeException("Can't get Beetl template.");
 		}
+		finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	/**
+	 * Render the template to the file. The output is streamed through a buffered UTF-8
+	 * writer onto the file channel instead of being materialized as a string, so the
+	 * memory doesn't grow with the document size.
+	 * @param template template
+	 * @param filePath file path
+	 */
+	public static void renderToFile(Template template, String filePath) {
+		Path path = Paths.get(filePath);
+		try {
+			if (Objects.nonNull(path.getParent())) {
+				Files.createDirectories(path.getParent());
+			}
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+					Writer writer = new BufferedWriter(
+							Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1), BUFFER_SIZE)) {
+				template.renderTo(writer);
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to write the document " + filePath, e);
+		}
 	}
 
 	/**
@@ -103,15 +177,17 @@ public class BeetlTemplateUtil {
 	 * @return group template
 	 */
 	private static GroupTemplate getGroupTemplate(String path) {
-		try {
-			ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader(
-					DocGlobalConstants.PATH_DELIMITER + path + DocGlobalConstants.PATH_DELIMITER);
-			Configuration cfg = Configuration.defaultConfiguration();
-			return new GroupTemplate(resourceLoader, cfg);
-		}
-		catch (IOException e) {
-			throw new RuntimeException("Can't found Beetl template.");
-		}
+		String root = DocGlobalConstants.PATH_DELIMITER + path + DocGlobalConstants.PATH_DELIMITER;
+		return GROUP_TEMPLATE_CACHE.computeIfAbsent(root + "#plain", k -> {
+			try {
+				ClasspathResourceLoader resourceLoader = new ClasspathResourceLoader(root);
+				Configuration cfg = Configuration.defaultConfiguration();
+				return new GroupTemplate(resourceLoader, cfg);
+			}
+			catch (IOException e) {
+				throw new RuntimeException("Can't found Beetl template.");
+			}
+		});
 	}
 
 	public static class HtmlCompressTemplateEngine extends FastRuntimeEngine {
@@ -21,7 +21,6 @@
 
 package io.github.smartdoc.utils;
 
-import io.github.smartdoc.builder.WordDocBuilder;
 import io.github.smartdoc.constants.DocAnnotationConstants;
 import io.github.smartdoc.constants.DocGlobalConstants;
 import io.github.smartdoc.constants.DocTags;
@@ -30,6 +29,8 @@ import io.github.smartdoc.constants.JakartaJaxrsAnnotations;
 import io.github.smartdoc.constants.JavaTypeConstants;
 import io.github.smartdoc.constants.MediaType;
 import io.github.smartdoc.extension.dict.DictionaryValuesResolver;
+import io.github.smartdoc.helper.DocxTemplate;
+import io.github.smartdoc.helper.PackageFilterMatcher;
 import io.github.smartdoc.model.ApiConfig;
 import io.github.smartdoc.model.ApiDataDictionary;
 import io.github.smartdoc.model.ApiDocDict;
@@ -37,6 +38,7 @@ import io.github.smartdoc.model.ApiErrorCode;
 import io.github.smartdoc.model.ApiErrorCodeDictionary;
 import io.github.smartdoc.model.ApiReqParam;
 import io.github.smartdoc.model.DataDict;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.model.DocJavaField;
 import io.github.smartdoc.model.FormData;
 import io.github.smartdoc.model.SystemPlaceholders;
@@ -63,11 +65,9 @@ import com.thoughtworks.qdox.model.expression.FieldRef;
 import net.datafaker.Faker;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.beetl.core.Template;
 
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -98,12 +98,9 @@ import java.util.Set;
 import java.util.Stack;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 /**
  * Description: DocUtil
@@ -285,15 +282,10 @@ public class DocUtil {
 
 	}
 
-	/**
-	 * Cache the regex and its pattern object
-	 */
-	private static final Map<String, Pattern> PATTERN_CACHE = new HashMap<>();
-
 	/**
 	 * "packageFilters" cache
 	 */
-	private static final Map<String, Set<String>> FILTER_METHOD_CACHE = new HashMap<>();
+	private static final Map<String, Set<String>> FILTER_METHOD_CACHE = new ConcurrentHashMap<>();
 
 	/**
 	 * Generate a random value based on java type name.
@@ -306,8 +298,7 @@ public class DocUtil {
 		if ("Instant".equalsIgnoreCase(type)) {
 			type = "LocalDateTime";
 		}
-		String randomMock = System.getProperty(DocGlobalConstants.RANDOM_MOCK);
-		boolean randomMockFlag = Boolean.parseBoolean(randomMock);
+		boolean randomMockFlag = DocBuildContext.isRandomMock();
 		String value = randomMockFlag ? RandomUtil.randomValueByType(type)
 				: RandomUtil.generateDefaultValueByType(type);
 		if (javaPrimaryType(type)) {
@@ -328,8 +319,7 @@ public class DocUtil {
 	 * @return random value
 	 */
 	public static String getValByTypeAndFieldName(String typeName, String filedName) {
-		String randomMock = System.getProperty(DocGlobalConstants.RANDOM_MOCK);
-		boolean randomMockFlag = Boolean.parseBoolean(randomMock);
+		boolean randomMockFlag = DocBuildContext.isRandomMock();
 		boolean isArray = true;
 		String type = typeName.contains("java.lang") ? typeName.substring(typeName.lastIndexOf(".") + 1) : typeName;
 		String key = filedName.toLowerCase() + "-" + type.toLowerCase();
@@ -391,19 +381,7 @@ public class DocUtil {
 		if (StringUtil.isEmpty(packageFilters)) {
 			return false;
 		}
-		String[] patterns = packageFilters.split(",");
-		for (String str : patterns) {
-			if (str.contains("*")) {
-				Pattern pattern = Pattern.compile(str);
-				if (pattern.matcher(controllerName).matches()) {
-					return true;
-				}
-			}
-			else if (controllerName.startsWith(str)) {
-				return true;
-			}
-		}
-		return false;
+		return getPackageFilterMatcher(packageFilters).matches(controllerName);
 	}
 
 	/**
@@ -416,78 +394,28 @@ public class DocUtil {
 		if (StringUtil.isEmpty(packageFilters)) {
 			return false;
 		}
-
-		String controllerName = controllerClass.getCanonicalName();
-
-		boolean pointToMethod = false;
-		// if the 'packageFilters' is point to the method, add all candidate methods into
-		// this container
-		int capacity = Math.max((int) (controllerClass.getMethods().size() / 0.75F) + 1, 16);
-		Set<String> filterMethods = new HashSet<>(capacity);
-
-		String[] filters = packageFilters.split(",");
-
-		for (String filter : filters) {
-			if (filter.contains("*")) {
-				Pattern pattern = getPattern(filter);
-
-				// if the pattern matches the controller canonical name,
-				// that means the user want all methods in this controller
-				boolean matchControllerName = pattern.matcher(controllerName).matches();
-				if (matchControllerName) {
-					cacheFilterMethods(controllerName, Collections.singleton(DocGlobalConstants.DEFAULT_FILTER_METHOD));
-					return true;
-				}
-				else {
-					// try to match the methods in this controller
-					List<String> controllerMethods = controllerClass.getMethods()
-						.stream()
-						.map(JavaMember::getName)
-						.collect(Collectors.toList());
-					Set<String> methodsMatch = controllerMethods.stream()
-						.filter(method -> pattern.matcher(controllerName + "." + method).matches())
-						.collect(Collectors.toSet());
-					if (!methodsMatch.isEmpty()) {
-						pointToMethod = true;
-						filterMethods.addAll(methodsMatch);
-					}
-				}
-			}
-			else if (controllerName.equals(filter) || controllerName.contains(filter)) {
-				// the filter is just the controller canonical name,
-				// or the controller is in a sub package
-				cacheFilterMethods(controllerName, Collections.singleton(DocGlobalConstants.DEFAULT_FILTER_METHOD));
-				return true;
-			}
-			else if (filter.contains(controllerName)) {
-				// the filter is point to a method
-				pointToMethod = true;
-				String method = filter.replace(controllerName, "").replace(".", "");
-				filterMethods.add(method);
-			}
-		}
-
-		if (pointToMethod) {
-			cacheFilterMethods(controllerName, filterMethods);
-			return true;
+		// the filter methods are the class itself ("*") when the filters match the class,
+		// or the methods the filters point to
+		Set<String> filterMethods = getPackageFilterMatcher(packageFilters).match(controllerClass);
+		if (Objects.isNull(filterMethods)) {
+			return false;
 		}
-
-		return false;
+		cacheFilterMethods(controllerClass.getCanonicalName(), filterMethods);
+		return true;
 	}
 
 	/**
-	 * Get pattern from the cache by a regex string. If there is no cache, then compile a
-	 * new pattern object and put it into cache
-	 * @param regex a regex string
-	 * @return a usable pattern object
+	 * Get the compiled package filters of the current build, they are compiled on each
+	 * call when there is no build running.
+	 * @param packageFilters package filters
+	 * @return PackageFilterMatcher
 	 */
-	private static Pattern getPattern(String regex) {
-		Pattern pattern = PATTERN_CACHE.get(regex);
-		if (pattern == null) {
-			pattern = Pattern.compile(regex);
-			PATTERN_CACHE.put(regex, pattern);
+	private static PackageFilterMatcher getPackageFilterMatcher(String packageFilters) {
+		DocBuildContext context = DocBuildContext.current();
+		if (Objects.isNull(context)) {
+			return new PackageFilterMatcher(packageFilters);
 		}
-		return pattern;
+		return context.getPackageFilterMatcher(packageFilters);
 	}
 
 	/**
@@ -1136,7 +1064,28 @@ public class DocUtil {
 		return resolveAnnotationValue(classLoader, annotationValue);
 	}
 
+	/**
+	 * Build error code list. Within a build the list is computed once and shared by all
+	 * the builders, see {@link DocBuildContext}.
+	 * @param config api config
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @return list of ApiErrorCode
+	 */
 	public static List<ApiErrorCode> errorCodeDictToList(ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
+		DocBuildContext context = DocBuildContext.current();
+		if (Objects.nonNull(context) && context.getApiConfig() == config) {
+			return context.getErrorCodes(() -> loadErrorCodes(config, javaProjectBuilder));
+		}
+		return loadErrorCodes(config, javaProjectBuilder);
+	}
+
+	/**
+	 * Load error codes from the config and the error code dictionaries.
+	 * @param config api config
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @return list of ApiErrorCode
+	 */
+	private static List<ApiErrorCode> loadErrorCodes(ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
 		if (CollectionUtil.isNotEmpty(config.getErrorCodes())) {
 			return config.getErrorCodes();
 		}
@@ -1206,12 +1155,27 @@ public class DocUtil {
 	}
 
 	/**
-	 * Build dictionary
+	 * Build dictionary. Within a build the dictionary is computed once and shared by all
+	 * the builders, see {@link DocBuildContext}.
 	 * @param config api config
 	 * @param javaProjectBuilder JavaProjectBuilder
 	 * @return list of ApiDocDict
 	 */
 	public static List<ApiDocDict> buildDictionary(ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
+		DocBuildContext context = DocBuildContext.current();
+		if (Objects.nonNull(context) && context.getApiConfig() == config) {
+			return context.getDictionaries(() -> loadDictionary(config, javaProjectBuilder));
+		}
+		return loadDictionary(config, javaProjectBuilder);
+	}
+
+	/**
+	 * Load dictionary from the data dictionaries of the config.
+	 * @param config api config
+	 * @param javaProjectBuilder JavaProjectBuilder
+	 * @return list of ApiDocDict
+	 */
+	private static List<ApiDocDict> loadDictionary(ApiConfig config, JavaProjectBuilder javaProjectBuilder) {
 		List<ApiDataDictionary> apiDataDictionaryList = config.getDataDictionaries();
 		if (CollectionUtil.isEmpty(apiDataDictionaryList)) {
 			return new ArrayList<>(0);
@@ -1879,36 +1843,21 @@ public class DocUtil {
 	 * @since 3.0.8
 	 */
 	public static void copyAndReplaceDocx(String content, String docxOutputPath, String templateDocx) throws Exception {
-		InputStream resourceAsStream = WordDocBuilder.class.getClassLoader().getResourceAsStream(templateDocx);
-		Objects.requireNonNull(resourceAsStream, "word template docx is not found");
-
-		ZipInputStream zipInputStream = new ZipInputStream(resourceAsStream);
-		ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(Paths.get(docxOutputPath)));
-		// Traverse the files in the compressed package
-		ZipEntry entry;
-		while ((entry = zipInputStream.getNextEntry()) != null) {
-			String entryName = entry.getName();
-			// copy fix the bug: invalid entry compressed size
-			zipOutputStream.putNextEntry(new ZipEntry(entryName));
-			if ("word/document.xml".equals(entryName)) {
-				byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
-				zipOutputStream.write(bytes, 0, bytes.length);
-			}
-			else {
-				// copy
-				byte[] buffer = new byte[1024];
-				int len;
-				while ((len = zipInputStream.read(buffer)) > 0) {
-					zipOutputStream.write(buffer, 0, len);
-				}
-			}
-
-			zipOutputStream.closeEntry();
-			zipInputStream.closeEntry();
-		}
+		DocxTemplate.of(templateDocx).write(docxOutputPath, content);
+	}
 
-		zipInputStream.close();
-		zipOutputStream.close();
+	/**
+	 * Render the template as the document of a copy of the docx template, the rendered
+	 * document is streamed into the docx.
+	 * @param template document template
+	 * @param docxOutputPath docx output path
+	 * @param templateDocx docx template
+	 * @throws IOException if the docx can't be written
+	 * @since 4.0
+	 */
+	public static void copyAndReplaceDocx(Template template, String docxOutputPath, String templateDocx)
+			throws IOException {
+		DocxTemplate.of(templateDocx).write(docxOutputPath, template::renderTo);
 	}
 
 }
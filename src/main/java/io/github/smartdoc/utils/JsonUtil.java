@@ -27,7 +27,9 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Json Util
@@ -36,6 +38,11 @@ import java.util.Objects;
  */
 public class JsonUtil {
 
+	/**
+	 * Gson is thread safe, the pretty one is shared by all the calls.
+	 */
+	private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
 	/**
 	 * private constructor
 	 */
@@ -44,7 +51,11 @@ public class JsonUtil {
 	}
 
 	/**
-	 * Convert a JSON string to pretty print
+	 * Convert a JSON string to pretty print.
+	 * <p>
+	 * Strict JSON is indented in one pass over the string, the output is the same as the
+	 * one of Gson. Lenient JSON, such as unquoted values from a mock tag, is still parsed
+	 * and written by Gson.
 	 * @param jsonString json string
 	 * @return Format json string
 	 */
@@ -55,10 +66,13 @@ public class JsonUtil {
 		if (!jsonString.startsWith("[") && !jsonString.startsWith("{")) {
 			return jsonString;
 		}
+		String formatted = new PrettyFormatter(jsonString).format();
+		if (Objects.nonNull(formatted)) {
+			return formatted;
+		}
 		try {
 			JsonElement jsonElement = JsonParser.parseString(jsonString);
-			Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
-			return gson.toJson(jsonElement);
+			return PRETTY_GSON.toJson(jsonElement);
 		}
 		catch (Exception e) {
 			return jsonString;
@@ -71,8 +85,7 @@ public class JsonUtil {
 	 * @return Format json string
 	 */
 	public static String toPrettyJson(Object src) {
-		Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
-		return gson.toJson(src);
+		return PRETTY_GSON.toJson(src);
 	}
 
 	/**
@@ -86,4 +99,344 @@ public class JsonUtil {
 		return new Gson().fromJson(json, clazz);
 	}
 
+	/**
+	 * Indents strict JSON the way Gson pretty printing does, without building a tree. It
+	 * gives up on anything Gson would read leniently or normalize: duplicate names, null
+	 * members, unquoted values, comments and other separators.
+	 */
+	private static final class PrettyFormatter {
+
+		/**
+		 * Default nesting limit of the Gson JsonReader.
+		 */
+		private static final int NESTING_LIMIT = 255;
+
+		/**
+		 * Longer numbers are read as unquoted strings by the Gson JsonReader.
+		 */
+		private static final int MAX_NUMBER_LENGTH = 1024;
+
+		private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+		private final String json;
+
+		private final StringBuilder out;
+
+		private int pos;
+
+		PrettyFormatter(String json) {
+			this.json = json;
+			this.out = new StringBuilder(json.length() + (json.length() >> 1));
+		}
+
+		/**
+		 * Format the json.
+		 * @return formatted json, or null if Gson has to format it
+		 */
+		String format() {
+			if (!value(0)) {
+				return null;
+			}
+			skipWhitespace();
+			return pos == json.length() ? out.toString() : null;
+		}
+
+		private boolean value(int depth) {
+			skipWhitespace();
+			switch (peek()) {
+				case '{':
+					return object(depth + 1);
+				case '[':
+					return array(depth + 1);
+				case '"':
+					return string();
+				default:
+					return literal();
+			}
+		}
+
+		private boolean object(int depth) {
+			if (depth > NESTING_LIMIT) {
+				return false;
+			}
+			pos++;
+			skipWhitespace();
+			if (peek() == '}') {
+				pos++;
+				out.append("{}");
+				return true;
+			}
+			out.append('{');
+			Set<String> names = new HashSet<>();
+			while (true) {
+				newline(depth);
+				skipWhitespace();
+				int nameStart = out.length();
+				if (peek() != '"' || !string() || !names.add(out.substring(nameStart))) {
+					return false;
+				}
+				skipWhitespace();
+				if (peek() != ':') {
+					return false;
+				}
+				pos++;
+				out.append(": ");
+				skipWhitespace();
+				// Gson skips null members
+				if (json.startsWith("null", pos) || !value(depth)) {
+					return false;
+				}
+				skipWhitespace();
+				char c = peek();
+				pos++;
+				if (c == '}') {
+					newline(depth - 1);
+					out.append('}');
+					return true;
+				}
+				if (c != ',') {
+					return false;
+				}
+				out.append(',');
+			}
+		}
+
+		private boolean array(int depth) {
+			if (depth > NESTING_LIMIT) {
+				return false;
+			}
+			pos++;
+			skipWhitespace();
+			if (peek() == ']') {
+				pos++;
+				out.append("[]");
+				return true;
+			}
+			out.append('[');
+			while (true) {
+				newline(depth);
+				if (!value(depth)) {
+					return false;
+				}
+				skipWhitespace();
+				char c = peek();
+				pos++;
+				if (c == ']') {
+					newline(depth - 1);
+					out.append(']');
+					return true;
+				}
+				if (c != ',') {
+					return false;
+				}
+				out.append(',');
+			}
+		}
+
+		private boolean string() {
+			pos++;
+			out.append('"');
+			int length = json.length();
+			while (pos < length) {
+				char c = json.charAt(pos++);
+				if (c == '"') {
+					out.append('"');
+					return true;
+				}
+				if (c == '\\') {
+					if (pos >= length) {
+						return false;
+					}
+					switch (json.charAt(pos++)) {
+						case '"':
+							c = '"';
+							break;
+						case '\\':
+							c = '\\';
+							break;
+						case '/':
+							c = '/';
+							break;
+						case 'b':
+							c = '\b';
+							break;
+						case 'f':
+							c = '\f';
+							break;
+						case 'n':
+							c = '\n';
+							break;
+						case 'r':
+							c = '\r';
+							break;
+						case 't':
+							c = '\t';
+							break;
+						case 'u':
+							int code = unicode();
+							if (code < 0) {
+								return false;
+							}
+							c = (char) code;
+							break;
+						default:
+							return false;
+					}
+				}
+				escape(c);
+			}
+			return false;
+		}
+
+		private int unicode() {
+			if (pos + 4 > json.length()) {
+				return -1;
+			}
+			int code = 0;
+			for (int i = 0; i < 4; i++) {
+				char c = json.charAt(pos++);
+				int digit;
+				if (c >= '0' && c <= '9') {
+					digit = c - '0';
+				}
+				else if (c >= 'a' && c <= 'f') {
+					digit = c - 'a' + 10;
+				}
+				else if (c >= 'A' && c <= 'F') {
+					digit = c - 'A' + 10;
+				}
+				else {
+					return -1;
+				}
+				code = (code << 4) | digit;
+			}
+			return code;
+		}
+
+		/**
+		 * Escape as the Gson JsonWriter does with html escaping disabled.
+		 * @param c char
+		 */
+		private void escape(char c) {
+			switch (c) {
+				case '"':
+					out.append("\\\"");
+					break;
+				case '\\':
+					out.append("\\\\");
+					break;
+				case '\t':
+					out.append("\\t");
+					break;
+				case '\b':
+					out.append("\\b");
+					break;
+				case '\n':
+					out.append("\\n");
+					break;
+				case '\r':
+					out.append("\\r");
+					break;
+				case '\f':
+					out.append("\\f");
+					break;
+				case '\u2028':
+					out.append("\\u2028");
+					break;
+				case '\u2029':
+					out.append("\\u2029");
+					break;
+				default:
+					if (c < 0x20) {
+						out.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xf]);
+					}
+					else {
+						out.append(c);
+					}
+			}
+		}
+
+		private boolean literal() {
+			int start = pos;
+			if (json.startsWith("true", pos)) {
+				pos += 4;
+			}
+			else if (json.startsWith("false", pos)) {
+				pos += 5;
+			}
+			else if (json.startsWith("null", pos)) {
+				pos += 4;
+			}
+			else if (!number() || pos - start >= MAX_NUMBER_LENGTH) {
+				return false;
+			}
+			// anything else after it makes an unquoted string
+			if (pos < json.length() && !isDelimiter(json.charAt(pos))) {
+				return false;
+			}
+			out.append(json, start, pos);
+			return true;
+		}
+
+		private boolean number() {
+			if (peek() == '-') {
+				pos++;
+			}
+			if (peek() == '0') {
+				pos++;
+			}
+			else if (!digits()) {
+				return false;
+			}
+			if (peek() == '.') {
+				pos++;
+				if (!digits()) {
+					return false;
+				}
+			}
+			if (peek() == 'e' || peek() == 'E') {
+				pos++;
+				if (peek() == '+' || peek() == '-') {
+					pos++;
+				}
+				return digits();
+			}
+			return true;
+		}
+
+		private boolean digits() {
+			int start = pos;
+			while (peek() >= '0' && peek() <= '9') {
+				pos++;
+			}
+			return pos > start;
+		}
+
+		private static boolean isDelimiter(char c) {
+			return c == ',' || c == ']' || c == '}' || c == ' ' || c == '\t' || c == '\n' || c == '\r';
+		}
+
+		private void skipWhitespace() {
+			while (pos < json.length()) {
+				char c = json.charAt(pos);
+				if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+					return;
+				}
+				pos++;
+			}
+		}
+
+		private char peek() {
+			return pos < json.length() ? json.charAt(pos) : 0;
+		}
+
+		private void newline(int depth) {
+			out.append('\n');
+			for (int i = 0; i < depth; i++) {
+				out.append("  ");
+			}
+		}
+
+	}
+
 }
@@ -26,10 +26,15 @@ import io.github.smartdoc.constants.ComponentTypeEnum;
 import io.github.smartdoc.constants.DocGlobalConstants;
 import io.github.smartdoc.model.ApiConfig;
 import io.github.smartdoc.model.ApiParam;
+import io.github.smartdoc.model.DocBuildContext;
 import com.power.common.util.CollectionUtil;
 import com.power.common.util.StringUtil;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -103,10 +108,15 @@ public class OpenApiSchemaUtil {
 	 * @return className
 	 */
 	public static String getClassNameFromParams(List<ApiParam> apiParams) {
-		ComponentTypeEnum componentTypeEnum = ApiConfig.getInstance().getComponentType();
+		DocBuildContext context = DocBuildContext.current();
+		// without a build running in the current thread the config set by
+		// ApiConfig.setInstance is used as before, the names are random without a config
+		ApiConfig apiConfig = Objects.isNull(context) ? ApiConfig.getInstance() : context.getApiConfig();
+		ComponentTypeEnum componentTypeEnum = Objects.isNull(apiConfig) ? ComponentTypeEnum.RANDOM
+				: apiConfig.getComponentType();
 		// random name
 		if (componentTypeEnum.equals(ComponentTypeEnum.RANDOM)) {
-			return DigestUtils.md5Hex(GSON.toJson(apiParams));
+			return getStructureHash(apiParams);
 		}
 		// if array[Primitive] or Primitive
 		if (CollectionUtil.isNotEmpty(apiParams) && apiParams.size() == 1
@@ -117,12 +127,83 @@ public class OpenApiSchemaUtil {
 		// className
 		for (ApiParam a : apiParams) {
 			if (StringUtil.isNotEmpty(a.getClassName())) {
-				return OpenApiSchemaUtil.delClassName(a.getClassName());
+				String className = OpenApiSchemaUtil.delClassName(a.getClassName());
+				// the names are numbered per build, or the class name without a build
+				return Objects.isNull(context) ? className
+						: context.getComponentName(className, getStructureHash(apiParams));
 			}
 		}
 		return NO_BODY_PARAM;
 	}
 
+	/**
+	 * Get the structural hash of the params, the params with the same structure get the
+	 * same hash regardless of their position (id and pid) in the param tree and their
+	 * mock values.
+	 * @param apiParams api params
+	 * @return md5 hex of the structure
+	 */
+	public static String getStructureHash(List<ApiParam> apiParams) {
+		MessageDigest digest = DigestUtils.getMd5Digest();
+		if (Objects.isNull(apiParams)) {
+			update(digest, null);
+		}
+		else {
+			for (ApiParam apiParam : apiParams) {
+				update(digest, getStructureHash(apiParam));
+			}
+		}
+		return Hex.encodeHexString(digest.digest());
+	}
+
+	/**
+	 * Get the structural hash of the param, the hash is cached on the param so each param
+	 * of a tree is hashed once.
+	 * @param apiParam api param
+	 * @return md5 hex of the structure
+	 */
+	public static String getStructureHash(ApiParam apiParam) {
+		String hash = apiParam.getStructureHash();
+		if (Objects.nonNull(hash)) {
+			return hash;
+		}
+		MessageDigest digest = DigestUtils.getMd5Digest();
+		update(digest, apiParam.getClassName());
+		update(digest, apiParam.getField());
+		update(digest, apiParam.getType());
+		update(digest, apiParam.getFormat());
+		update(digest, apiParam.getFullyTypeName());
+		update(digest, apiParam.getDesc());
+		update(digest, apiParam.getVersion());
+		update(digest, apiParam.getMaxLength());
+		update(digest, String.valueOf(apiParam.isRequired()) + apiParam.isPathParam() + apiParam.isQueryParam()
+				+ apiParam.isHasItems() + apiParam.isConfigParam() + apiParam.isSelfReferenceLoop());
+		update(digest, Objects.isNull(apiParam.getEnumValues()) ? null : GSON.toJson(apiParam.getEnumValues()));
+		update(digest, Objects.isNull(apiParam.getEnumInfo()) ? null : GSON.toJson(apiParam.getEnumInfo()));
+		update(digest, Objects.isNull(apiParam.getExtensions()) ? null : GSON.toJson(apiParam.getExtensions()));
+		update(digest, Objects.isNull(apiParam.getChildren()) ? null : getStructureHash(apiParam.getChildren()));
+		hash = Hex.encodeHexString(digest.digest());
+		apiParam.setStructureHash(hash);
+		return hash;
+	}
+
+	/**
+	 * Update the digest with a length prefixed value, so the values can't run into each
+	 * other.
+	 * @param digest digest
+	 * @param value value, may be null
+	 */
+	private static void update(MessageDigest digest, String value) {
+		if (Objects.isNull(value)) {
+			digest.update((byte) 0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		digest.update((byte) 1);
+		digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+		digest.update(bytes);
+	}
+
 	/**
 	 * Delete className
 	 * @param className className
@@ -0,0 +1,251 @@
+/*
+ * smart-doc https://github.com/smart-doc-group/smart-doc
+ *
+ * Copyright (C) 2018-2025 smart-doc
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.github.smartdoc.utils;
+
+import io.github.smartdoc.model.DocBuildContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Run independent tasks of a build on a bounded number of threads. The threads are taken
+ * from the pool of the build bound to the current thread, so that the tasks of a build
+ * reuse one pool.
+ *
+ * @author agent 2026/10/18
+ * @since 4.0
+ */
+public class ParallelUtil {
+
+	/**
+	 * seconds an idle thread of a build pool is kept
+	 */
+	private static final long KEEP_ALIVE_SECONDS = 5L;
+
+	/**
+	 * whether the current thread runs the items of a parallel task
+	 */
+	private static final ThreadLocal<Boolean> WORKER = new ThreadLocal<>();
+
+	/**
+	 * private constructor
+	 */
+	private ParallelUtil() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Perform the action for each item. When the parallelism is not greater than 1 the
+	 * items are processed sequentially in the caller thread, otherwise they are processed
+	 * by at most {@code parallelism} threads. All items are processed even if some of
+	 * them fail, the failures are reported together at the end.
+	 * @param items items to process
+	 * @param parallelism max number of threads
+	 * @param taskName task name, used for thread names and error message
+	 * @param action action for each item
+	 * @param <T> item type
+	 */
+	public static <T> void forEach(Collection<T> items, int parallelism, String taskName, Consumer<T> action) {
+		map(new ArrayList<>(items), parallelism, taskName, item -> {
+			action.accept(item);
+			return null;
+		});
+	}
+
+	/**
+	 * Apply the function to each item and return the results in the order of the items.
+	 * When the parallelism is not greater than 1 the items are mapped sequentially in the
+	 * caller thread, otherwise at most {@code parallelism} threads take the next item
+	 * until all items are mapped, so that a few expensive items do not hold back the
+	 * others. The threads are taken from the pool of the current build, a pool is created
+	 * for the call when there is no build running. A parallel task started by an item of
+	 * another parallel task runs sequentially. All items are mapped even if some of them
+	 * fail, the failures are reported together at the end.
+	 * @param items items to map
+	 * @param parallelism max number of threads
+	 * @param taskName task name, used for thread names and error message
+	 * @param function mapping function
+	 * @param <T> item type
+	 * @param <R> result type
+	 * @return results in the order of the items
+	 */
+	public static <T, R> List<R> map(List<T> items, int parallelism, String taskName, Function<T, R> function) {
+		int workers = Math.min(parallelism, items.size());
+		if (workers <= 1 || Boolean.TRUE.equals(WORKER.get())) {
+			List<R> results = new ArrayList<>(items.size());
+			for (T item : items) {
+				results.add(function.apply(item));
+			}
+			return results;
+		}
+		DocBuildContext context = DocBuildContext.current();
+		ExecutorService executor = Objects.isNull(context) ? newExecutor(workers, taskName) : context.getExecutor();
+		AtomicReferenceArray<R> values = new AtomicReferenceArray<>(items.size());
+		AtomicReferenceArray<Throwable> failures = new AtomicReferenceArray<>(items.size());
+		AtomicInteger next = new AtomicInteger();
+		try {
+			List<Future<?>> futures = new ArrayList<>(workers);
+			for (int i = 0; i < workers; i++) {
+				futures.add(executor.submit(() -> runWorker(context, () -> {
+					int index;
+					while ((index = next.getAndIncrement()) < items.size()) {
+						try {
+							values.set(index, function.apply(items.get(index)));
+						}
+						catch (RuntimeException | Error e) {
+							failures.set(index, e);
+						}
+					}
+				})));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException e) {
+					throw new RuntimeException(taskName + " failed.", e.getCause());
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RuntimeException(taskName + " was interrupted.", e);
+				}
+			}
+		}
+		finally {
+			if (Objects.isNull(context)) {
+				executor.shutdownNow();
+			}
+		}
+		List<R> results = new ArrayList<>(items.size());
+		List<Throwable> errors = new ArrayList<>();
+		for (int i = 0; i < items.size(); i++) {
+			results.add(values.get(i));
+			if (Objects.nonNull(failures.get(i))) {
+				errors.add(failures.get(i));
+			}
+		}
+		throwIfFailed(errors, items.size(), taskName);
+		return results;
+	}
+
+	/**
+	 * Create a fixed thread pool with daemon threads.
+	 * @param threads number of threads
+	 * @param taskName task name, used for thread names
+	 * @return executor service
+	 */
+	public static ExecutorService newExecutor(int threads, String taskName) {
+		return Executors.newFixedThreadPool(threads, newThreadFactory(taskName));
+	}
+
+	/**
+	 * Create the pool of a build. The threads are created on demand, the number of
+	 * threads used by a task is bounded by its parallelism. Idle threads exit after a few
+	 * seconds, so the pool needs no shutdown when the build is done.
+	 * @param name pool name, used for thread names
+	 * @return executor service
+	 */
+	public static ExecutorService newBuildExecutor(String name) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new SynchronousQueue<>(), newThreadFactory(name));
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Create a factory of named daemon threads.
+	 * @param name name prefix of the threads
+	 * @return thread factory
+	 */
+	private static ThreadFactory newThreadFactory(String name) {
+		AtomicInteger counter = new AtomicInteger(1);
+		return runnable -> {
+			Thread thread = new Thread(runnable, "smart-doc-" + name + "-" + counter.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Run the worker with the build context of the submitting thread, so that the helpers
+	 * reading {@link DocBuildContext#current()} see the same build in the pool threads.
+	 * @param context build context, nullable
+	 * @param worker worker
+	 */
+	private static void runWorker(DocBuildContext context, Runnable worker) {
+		DocBuildContext previous = DocBuildContext.bind(context);
+		WORKER.set(Boolean.TRUE);
+		try {
+			worker.run();
+		}
+		finally {
+			WORKER.remove();
+			DocBuildContext.bind(previous);
+		}
+	}
+
+	/**
+	 * Throw one exception carrying all failures as suppressed exceptions.
+	 * @param errors failures
+	 * @param total total number of tasks
+	 * @param taskName task name
+	 */
+	private static void throwIfFailed(List<Throwable> errors, int total, String taskName) {
+		if (errors.isEmpty()) {
+			return;
+		}
+		StringBuilder message = new StringBuilder();
+		message.append(taskName)
+			.append(" failed for ")
+			.append(errors.size())
+			.append(" of ")
+			.append(total)
+			.append(" items: ");
+		for (int i = 0; i < errors.size(); i++) {
+			if (i > 0) {
+				message.append("; ");
+			}
+			message.append(errors.get(i));
+		}
+		RuntimeException exception = new RuntimeException(message.toString(), errors.get(0));
+		for (int i = 1; i < errors.size(); i++) {
+			exception.addSuppressed(errors.get(i));
+		}
+		throw exception;
+	}
+
+}
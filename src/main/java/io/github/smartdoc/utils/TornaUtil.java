@@ -30,6 +30,8 @@ import io.github.smartdoc.constants.DocAnnotationConstants;
 import io.github.smartdoc.constants.DocGlobalConstants;
 import io.github.smartdoc.constants.ParamTypeConstants;
 import io.github.smartdoc.constants.TornaConstants;
+import io.github.smartdoc.helper.TornaPushHelper;
+import io.github.smartdoc.helper.TornaPushManifest;
 import io.github.smartdoc.model.ApiConfig;
 import io.github.smartdoc.model.ApiDocDict;
 import io.github.smartdoc.model.ApiErrorCode;
@@ -49,7 +51,6 @@ import io.github.smartdoc.model.torna.TornaDic;
 import io.github.smartdoc.model.torna.TornaRequestInfo;
 import com.power.common.model.EnumDictionary;
 import com.power.common.util.CollectionUtil;
-import com.power.common.util.OkHttp3Util;
 import com.power.common.util.StringUtil;
 import com.thoughtworks.qdox.JavaProjectBuilder;
 import com.thoughtworks.qdox.model.JavaMethod;
@@ -73,6 +74,11 @@ import static io.github.smartdoc.constants.TornaConstants.PUSH;
  **/
 public class TornaUtil {
 
+	/**
+	 * Gson is thread safe, it is shared by the concurrent pushes
+	 */
+	private static final Gson GSON = new Gson();
+
 	/**
 	 * private constructor
 	 */
@@ -85,7 +91,8 @@ public class TornaUtil {
 	 * <p>
 	 * This method decides whether to push all or part of the documentation based on the
 	 * settings in apiConfig. If the Torna API or the configuration information is
-	 * missing, the method will return directly.
+	 * missing, the method will return directly. Only the APIs changed since the last
+	 * successful push are pushed, see {@link TornaPushManifest}.
 	 * </p>
 	 * @param tornaApi The API documentation object, containing information about all
 	 * APIs.
@@ -99,9 +106,18 @@ public class TornaUtil {
 		if (tornaApi == null || apiConfig == null) {
 			return;
 		}
+		TornaPushHelper pushHelper = new TornaPushHelper(apiConfig);
+		TornaPushManifest manifest = TornaPushManifest.detect(apiConfig, tornaApi);
 		// Push all documents
 		if (apiConfig.getApiUploadNums() == null) {
-			pushToTornaAll(tornaApi, apiConfig, builder);
+			pushDictionary(pushHelper, apiConfig, builder);
+			List<Apis> changed = manifest.getChanged(tornaApi.getApis());
+			if (manifest.isFullPush() || !changed.isEmpty()) {
+				if (pushApis(pushHelper, copyWithApis(tornaApi, changed), apiConfig)) {
+					manifest.markPushed(changed);
+				}
+			}
+			manifest.save();
 			return;
 		}
 		// Push part of documents if the upload number is not null
@@ -109,39 +125,90 @@ public class TornaUtil {
 		if (tornaApis == null || tornaApis.isEmpty()) {
 			return;
 		}
-		CollectionUtil.partition(tornaApis, apiConfig.getApiUploadNums()).forEach(apis -> {
-			tornaApi.setApis(apis);
-			pushToTornaAll(tornaApi, apiConfig, builder);
+		// the dictionaries are shared by all the partitions, push them once
+		pushDictionary(pushHelper, apiConfig, builder);
+		List<Apis> changed = manifest.getChanged(tornaApis);
+		List<List<Apis>> partitions = CollectionUtil.partition(changed, apiConfig.getApiUploadNums());
+		ParallelUtil.forEach(partitions, apiConfig.getTornaUploadThreads(), "torna push", apis -> {
+			if (pushApis(pushHelper, copyWithApis(tornaApi, apis), apiConfig)) {
+				manifest.markPushed(apis);
+			}
 		});
+		manifest.save();
+	}
+
+	/**
+	 * Pushes the dictionary information to the Torna platform.
+	 * @param pushHelper The push helper sending the request.
+	 * @param apiConfig The API configuration object, containing the connection
+	 * information for the Torna platform.
+	 * @param builder The Java project builder object, used to construct the dictionaries.
+	 */
+	private static void pushDictionary(TornaPushHelper pushHelper, ApiConfig apiConfig, JavaProjectBuilder builder) {
+		List<TornaDic> docDicts = TornaUtil.buildTornaDic(DocUtil.buildDictionary(apiConfig, builder));
+		if (CollectionUtil.isEmpty(docDicts)) {
+			return;
+		}
+		Map<String, Object> dicMap = new HashMap<>(2);
+		dicMap.put("enums", docDicts);
+		Map<String, String> dicRequestJson = TornaConstants.buildParams(ENUM_PUSH, GSON.toJson(dicMap), apiConfig);
+		String dicResponseMsg = pushHelper.postJson(ENUM_PUSH, GSON.toJson(dicRequestJson));
+		TornaUtil.printDebugInfo(apiConfig, dicResponseMsg, dicRequestJson, ENUM_PUSH);
 	}
 
 	/**
-	 * Pushes all documentation information to the Torna platform.
+	 * Pushes the documentation information to the Torna platform.
+	 * @param pushHelper The push helper sending the request.
 	 * @param tornaApi The Torna API object, containing the API details to be pushed.
 	 * @param apiConfig The API configuration object, containing the connection
 	 * information for the Torna platform.
-	 * @param builder The Java project builder object, used to construct the documentation
-	 * information.
+	 * @return true if Torna accepted the push
 	 */
-	private static void pushToTornaAll(TornaApi tornaApi, ApiConfig apiConfig, JavaProjectBuilder builder) {
+	private static boolean pushApis(TornaPushHelper pushHelper, TornaApi tornaApi, ApiConfig apiConfig) {
 		// Build push document information
-		Map<String, String> requestJson = TornaConstants.buildParams(PUSH, new Gson().toJson(tornaApi), apiConfig);
+		Map<String, String> requestJson = TornaConstants.buildParams(PUSH, GSON.toJson(tornaApi), apiConfig);
 		TornaUtil.printDebugInfo(apiConfig, null, requestJson, PUSH, true);
-		// Push dictionary information
-		Map<String, Object> dicMap = new HashMap<>(2);
-		List<TornaDic> docDicts = TornaUtil.buildTornaDic(DocUtil.buildDictionary(apiConfig, builder));
-		// Push dictionary information
-		if (CollectionUtil.isNotEmpty(docDicts)) {
-			dicMap.put("enums", docDicts);
-			Map<String, String> dicRequestJson = TornaConstants.buildParams(ENUM_PUSH, new Gson().toJson(dicMap),
-					apiConfig);
-			String dicResponseMsg = OkHttp3Util.syncPostJson(apiConfig.getOpenUrl(), new Gson().toJson(dicRequestJson));
-			TornaUtil.printDebugInfo(apiConfig, dicResponseMsg, dicRequestJson, ENUM_PUSH);
-		}
 		// Get the response result
-		String responseMsg = OkHttp3Util.syncPostJson(apiConfig.getOpenUrl(), new Gson().toJson(requestJson));
+		String responseMsg = pushHelper.postJson(PUSH, GSON.toJson(requestJson));
 		// Print the log of pushing documents to Torna
 		TornaUtil.printDebugInfo(apiConfig, responseMsg, requestJson, PUSH);
+		return isSuccess(responseMsg);
+	}
+
+	/**
+	 * Check whether the Torna response reports success.
+	 * @param responseMsg The response message, null if the request failed.
+	 * @return true if the response code is 0
+	 */
+	private static boolean isSuccess(String responseMsg) {
+		if (StringUtil.isEmpty(responseMsg)) {
+			return false;
+		}
+		try {
+			JsonElement element = JsonParser.parseString(responseMsg);
+			return element.isJsonObject() && element.getAsJsonObject().has("code")
+					&& "0".equals(element.getAsJsonObject().get("code").getAsString());
+		}
+		catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Copies the Torna API object with a partition of the apis, the partitions are pushed
+	 * concurrently so they can't share the object.
+	 * @param tornaApi The Torna API object.
+	 * @param apis The partition of the apis.
+	 * @return the copy
+	 */
+	private static TornaApi copyWithApis(TornaApi tornaApi, List<Apis> apis) {
+		TornaApi copy = new TornaApi();
+		copy.setAuthor(tornaApi.getAuthor());
+		copy.setIsReplace(tornaApi.getIsReplace());
+		copy.setDebugEnvs(tornaApi.getDebugEnvs());
+		copy.setCommonErrorCodes(tornaApi.getCommonErrorCodes());
+		copy.setApis(apis);
+		return copy;
 	}
 
 	/**
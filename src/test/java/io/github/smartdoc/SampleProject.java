@@ -0,0 +1,163 @@
+package io.github.smartdoc;
+
+import io.github.smartdoc.builder.ProjectDocConfigBuilder;
+import io.github.smartdoc.helper.JavaProjectBuilderHelper;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.DocBuildContext;
+import io.github.smartdoc.model.SourceCodePath;
+import io.github.smartdoc.template.SpringBootDocBuildTemplate;
+import com.thoughtworks.qdox.model.JavaClass;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Sample spring project of the tests. The sources of the project are in the
+ * {@code projects/<name>} folder of the test resources, they are copied to a temporary
+ * base dir so that the tests can change them.
+ *
+ * @author agent 2026/10/18
+ */
+public class SampleProject {
+
+	/**
+	 * base dir of the project
+	 */
+	private final File baseDir;
+
+	/**
+	 * source root of the project
+	 */
+	private final File sourceRoot;
+
+	private SampleProject(File baseDir) {
+		this.baseDir = baseDir;
+		this.sourceRoot = new File(baseDir, "src/main/java");
+	}
+
+	/**
+	 * Copy the sample project to a temporary base dir.
+	 * @param name name of the project in the test resources
+	 * @return SampleProject
+	 * @throws IOException if the sources can't be copied
+	 */
+	public static SampleProject create(String name) throws IOException {
+		URL url = SampleProject.class.getClassLoader().getResource("projects/" + name);
+		Objects.requireNonNull(url, "No sample project " + name);
+		Path source;
+		try {
+			source = Paths.get(url.toURI());
+		}
+		catch (URISyntaxException e) {
+			throw new IllegalStateException(e);
+		}
+		SampleProject project = new SampleProject(Files.createTempDirectory("sample-" + name).toFile());
+		Path target = project.sourceRoot.toPath();
+		try (Stream<Path> files = Files.walk(source)) {
+			files.filter(Files::isRegularFile).forEach(file -> {
+				Path copy = target.resolve(source.relativize(file).toString());
+				try {
+					Files.createDirectories(copy.getParent());
+					Files.copy(file, copy);
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+		return project;
+	}
+
+	/**
+	 * Create the configuration of a spring build of the project, the docs are written to
+	 * the docs folder of the base dir.
+	 * @return ApiConfig
+	 */
+	public ApiConfig newConfig() {
+		ApiConfig config = new ApiConfig();
+		config.setFramework("spring");
+		config.setBaseDir(baseDir.getAbsolutePath());
+		config.setCodePath("src/main/java");
+		config.setOutPath(new File(baseDir, "docs").getAbsolutePath());
+		config.setSourceCodePaths(SourceCodePath.builder().setPath(sourceRoot.getAbsolutePath()));
+		return config;
+	}
+
+	/**
+	 * Parse the sources of the project.
+	 * @param config configuration of the build
+	 * @return ProjectDocConfigBuilder
+	 */
+	public ProjectDocConfigBuilder newBuilder(ApiConfig config) {
+		return new ProjectDocConfigBuilder(config, JavaProjectBuilderHelper.create());
+	}
+
+	/**
+	 * Delete a source file of the project.
+	 * @param path path of the file relative to the source root
+	 */
+	public void delete(String path) {
+		if (!new File(sourceRoot, path).delete()) {
+			throw new IllegalStateException("Failed to delete " + path);
+		}
+	}
+
+	public File getBaseDir() {
+		return baseDir;
+	}
+
+	public File getSourceRoot() {
+		return sourceRoot;
+	}
+
+	/**
+	 * Analyze the spring controllers among the classes, the build context of the builder
+	 * is bound while they are analyzed.
+	 * @param builder ProjectDocConfigBuilder
+	 * @param classes candidate classes
+	 * @return api docs
+	 */
+	public static List<ApiDoc> renderApi(ProjectDocConfigBuilder builder, Collection<JavaClass> classes) {
+		return inBuild(builder, () -> new SpringBootDocBuildTemplate().renderApi(builder, classes).getApiDatas());
+	}
+
+	/**
+	 * Run an action with the build context of the builder bound to the current thread,
+	 * the previous context is bound again afterwards.
+	 * @param builder ProjectDocConfigBuilder
+	 * @param action action
+	 * @param <T> result type
+	 * @return result of the action
+	 */
+	public static <T> T inBuild(ProjectDocConfigBuilder builder, Supplier<T> action) {
+		DocBuildContext previous = DocBuildContext.bind(builder.getBuildContext());
+		try {
+			return action.get();
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
+	}
+
+	/**
+	 * Analyze all the spring controllers of the builder.
+	 * @param builder ProjectDocConfigBuilder
+	 * @return api docs
+	 */
+	public static List<ApiDoc> renderApi(ProjectDocConfigBuilder builder) {
+		return renderApi(builder, builder.getJavaProjectBuilder().getClasses());
+	}
+
+}
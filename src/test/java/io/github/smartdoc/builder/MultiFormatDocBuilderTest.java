@@ -0,0 +1,105 @@
+package io.github.smartdoc.builder;
+
+import io.github.smartdoc.SampleProject;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.ApiSchema;
+import io.github.smartdoc.model.DocBuildContext;
+import io.github.smartdoc.template.IDocBuildTemplate;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Test for {@link MultiFormatDocBuilder}
+ *
+ * @author agent 2026/10/18
+ */
+class MultiFormatDocBuilderTest {
+
+	@Test
+	void testSinksShareTheAnalysisOfTheirSettings() throws IOException {
+		SampleProject project = SampleProject.create("user");
+		ApiConfig config = project.newConfig();
+		RecordingSink markdown = new RecordingSink("markdown", false);
+		RecordingSink html = new RecordingSink("html", false);
+		RecordingSink openApi = new RecordingSink("openapi", true);
+
+		Map<String, Long> timings = MultiFormatDocBuilder.buildApiDoc(config, Arrays.asList(markdown, openApi, html));
+		Assertions.assertEquals(Arrays.asList("markdown", "openapi", "html"),
+				Arrays.asList(timings.keySet().toArray()));
+		// the sinks with the same settings get the same analysis
+		Assertions.assertNotNull(markdown.apiSchema);
+		Assertions.assertSame(markdown.apiSchema, html.apiSchema);
+		Assertions.assertNotSame(markdown.apiSchema, openApi.apiSchema);
+		Assertions.assertFalse(markdown.paramsDataToTree);
+		Assertions.assertTrue(openApi.paramsDataToTree);
+		Assertions.assertEquals(2, markdown.apiSchema.getApiDatas().size());
+		// the settings of the config are restored
+		Assertions.assertFalse(config.isParamsDataToTree());
+	}
+
+	@Test
+	void testFailingSinkIsReported() throws IOException {
+		SampleProject project = SampleProject.create("user");
+		ApiConfig config = project.newConfig();
+		RecordingSink failing = new RecordingSink("failing", true) {
+			@Override
+			public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+					IDocBuildTemplate<ApiDoc> docBuildTemplate) throws Exception {
+				throw new IOException("disk full");
+			}
+		};
+
+		RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+				() -> MultiFormatDocBuilder.buildApiDoc(config, Collections.singletonList(failing)));
+		Assertions.assertEquals("Failed to build failing: disk full", e.getMessage());
+		Assertions.assertTrue(e.getCause() instanceof IOException);
+		// the build is cleaned up after the failure
+		Assertions.assertFalse(config.isParamsDataToTree());
+		Assertions.assertNull(DocBuildContext.current());
+	}
+
+	/**
+	 * Sink recording the api data it was given.
+	 */
+	private static class RecordingSink implements IDocOutputSink {
+
+		private final String name;
+
+		private final boolean tree;
+
+		private ApiSchema<ApiDoc> apiSchema;
+
+		private boolean paramsDataToTree;
+
+		RecordingSink(String name, boolean tree) {
+			this.name = name;
+			this.tree = tree;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public boolean isParamsDataToTree() {
+			return tree;
+		}
+
+		@Override
+		public void output(ApiSchema<ApiDoc> apiSchema, ApiConfig config, JavaProjectBuilder javaProjectBuilder,
+				IDocBuildTemplate<ApiDoc> docBuildTemplate) throws Exception {
+			this.apiSchema = apiSchema;
+			this.paramsDataToTree = config.isParamsDataToTree();
+		}
+
+	}
+
+}
@@ -0,0 +1,55 @@
+package io.github.smartdoc.builder;
+
+import io.github.smartdoc.SampleProject;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.SourceCodePath;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Test for {@link ProjectDocConfigBuilder}
+ *
+ * @author agent 2026/10/18
+ */
+class ProjectDocConfigBuilderTest {
+
+	@Test
+	void testJarSourcesAreStreamed() throws IOException {
+		File jar = Files.createTempFile("sources", ".jar").toFile();
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+			write(out, "com/lib/Page.java", "package com.lib;\n\npublic class Page {\n\n\tprivate int total;\n\n}\n");
+			write(out, "com/lib/Broken.java", "package com.lib;\n\npublic class Broken {\n");
+			write(out, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n");
+		}
+		SampleProject project = SampleProject.create("user");
+		ApiConfig config = project.newConfig();
+		config.setJarSourcePaths(SourceCodePath.builder().setPath(jar.getAbsolutePath()));
+
+		JavaProjectBuilder javaProjectBuilder = project.newBuilder(config).getJavaProjectBuilder();
+		JavaClass page = javaProjectBuilder.getClassByName("com.lib.Page");
+		Assertions.assertNotNull(page.getFieldByName("total"));
+		// the entries are read from the jar, not from files extracted to a temporary dir
+		Assertions.assertNull(page.getSource().getURL());
+		Assertions.assertFalse(new File("./smart-temp").exists());
+		// the source which can't be parsed is skipped, the project sources are loaded
+		Assertions.assertTrue(
+				javaProjectBuilder.getSources().stream().noneMatch(source -> source.getClassByName("Broken") != null));
+		Assertions.assertNotNull(javaProjectBuilder.getClassByName("com.test.UserController").getSource().getURL());
+	}
+
+	private static void write(JarOutputStream out, String name, String content) throws IOException {
+		out.putNextEntry(new JarEntry(name));
+		out.write(content.getBytes(StandardCharsets.UTF_8));
+		out.closeEntry();
+	}
+
+}
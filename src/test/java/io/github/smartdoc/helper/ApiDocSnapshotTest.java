@@ -0,0 +1,118 @@
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.SampleProject;
+import io.github.smartdoc.builder.ProjectDocConfigBuilder;
+import io.github.smartdoc.constants.DocLanguage;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.ApiGroup;
+import io.github.smartdoc.model.ApiObjectReplacement;
+import io.github.smartdoc.model.ApiReqParam;
+import io.github.smartdoc.model.BodyAdvice;
+import io.github.smartdoc.model.CustomField;
+import io.github.smartdoc.model.dependency.ApiDocSnapshot;
+import io.github.smartdoc.utils.DocUtil;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Test for {@link ApiDocSnapshot}
+ *
+ * @author agent 2026/10/18
+ */
+class ApiDocSnapshotTest {
+
+	@Test
+	void testSnapshotsAreMergedAndInvalidated() throws IOException {
+		SampleProject project = SampleProject.create("user");
+		ApiConfig config = project.newConfig();
+		config.setIncrement(true);
+
+		// the first build analyzes all the controllers
+		List<ApiDoc> apiDocs = render(project, config, "UserController", "OrderController");
+		Assertions.assertEquals(Arrays.asList("UserController", "OrderController"), names(apiDocs));
+
+		// the unchanged controller is merged from its snapshot
+		apiDocs = render(project, config, "UserController");
+		Assertions.assertEquals(Arrays.asList("UserController", "OrderController"), names(apiDocs));
+		ApiDoc orderDoc = apiDocs.get(1);
+		Assertions.assertEquals("OrderController", orderDoc.getAlias());
+		Assertions.assertEquals("/order", orderDoc.getList().get(0).getPath());
+		Assertions.assertSame(orderDoc, orderDoc.getList().get(0).getClazzDoc());
+
+		// the snapshot built with other settings is not reused, the controller is
+		// analyzed
+		config.setMd5EncryptedHtmlName(true);
+		apiDocs = render(project, config, "UserController");
+		Assertions.assertEquals(Arrays.asList("UserController", "OrderController"), names(apiDocs));
+		Assertions.assertEquals(DocUtil.generateId("OrderController"), apiDocs.get(1).getAlias());
+		apiDocs = render(project, config, "UserController");
+		Assertions.assertEquals(DocUtil.generateId("OrderController"), apiDocs.get(1).getAlias());
+
+		// the snapshot of a deleted controller is dropped
+		project.delete("com/test/OrderController.java");
+		apiDocs = render(project, config, "UserController");
+		Assertions.assertEquals(Collections.singletonList("UserController"), names(apiDocs));
+		File[] files = new File(project.getBaseDir(), ".smart-doc-snapshot").listFiles();
+		Assertions.assertNotNull(files);
+		Assertions.assertEquals(2, files.length);
+	}
+
+	@Test
+	void testSettingsHashCoversTheDocSettings() {
+		ApiConfig config = new ApiConfig();
+		config.setResponseBodyAdvice(BodyAdvice.builder().setWrapperClass(ApiDoc.class).setDataField("data"));
+		String hash = ApiDocSnapshot.settingsHash(config, "template");
+		Assertions.assertEquals(hash, ApiDocSnapshot.settingsHash(config, "template"));
+		Assertions.assertNotEquals(hash, ApiDocSnapshot.settingsHash(config, "other"));
+
+		// the output and upload settings don't change the docs
+		config.setOutPath("docs");
+		config.setOpenApiYaml(true);
+		config.setAppToken("token");
+		Assertions.assertEquals(hash, ApiDocSnapshot.settingsHash(config, "template"));
+
+		List<Consumer<ApiConfig>> changes = Arrays.asList(c -> c.setPathPrefix("/api"),
+				c -> c.setRequestHeaders(ApiReqParam.builder().setName("token").setDesc("token")),
+				c -> c.setResponseBodyAdvice(BodyAdvice.builder().setWrapperClass(ApiDoc.class).setDataField("rows")),
+				c -> c.setCustomResponseFields(CustomField.builder().setName("id").setIgnore(true)),
+				c -> c.setLanguage(DocLanguage.CHINESE),
+				c -> c.setIgnoreRequestParams(Collections.singletonList("request")),
+				c -> c.setGroups(Collections.singletonList(ApiGroup.builder().setName("user").setApis("com.test.*"))),
+				c -> c.setApiObjectReplacements(
+						ApiObjectReplacement.builder().setClassName("com.test.User").setReplacementClassName("Map")));
+		for (Consumer<ApiConfig> change : changes) {
+			ApiConfig changed = new ApiConfig();
+			changed.setResponseBodyAdvice(BodyAdvice.builder().setWrapperClass(ApiDoc.class).setDataField("data"));
+			change.accept(changed);
+			Assertions.assertNotEquals(hash, ApiDocSnapshot.settingsHash(changed, "template"));
+		}
+	}
+
+	/**
+	 * Build the project with the changed controllers as the candidates.
+	 */
+	private static List<ApiDoc> render(SampleProject project, ApiConfig config, String... candidates) {
+		ProjectDocConfigBuilder builder = project.newBuilder(config);
+		List<JavaClass> candidateClasses = new ArrayList<>();
+		for (String candidate : candidates) {
+			candidateClasses.add(builder.getJavaProjectBuilder().getClassByName("com.test." + candidate));
+		}
+		return SampleProject.renderApi(builder, candidateClasses);
+	}
+
+	private static List<String> names(List<ApiDoc> apiDocs) {
+		return apiDocs.stream().map(ApiDoc::getName).collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,130 @@
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.SampleProject;
+import io.github.smartdoc.builder.ProjectDocConfigBuilder;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiParam;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for {@link ApiExampleCache}
+ *
+ * @author agent 2026/10/18
+ */
+class ApiExampleCacheTest {
+
+	private static final String RESULT_TYPE = Result.class.getName() + "<" + Item.class.getName() + ">";
+
+	@Test
+	void testCachedParamsAreRenumbered() {
+		ProjectDocConfigBuilder builder = builder();
+		ApiExampleCache cache = builder.getBuildContext().getExampleCache();
+		List<ApiParam> first = buildParams(builder, 0, new AtomicInteger(0));
+		AtomicInteger counter = new AtomicInteger(10);
+		List<ApiParam> second = buildParams(builder, 5, counter);
+		Assertions.assertEquals(1, cache.getParamHitCount());
+
+		// the params built without the cache of a build
+		AtomicInteger expectedCounter = new AtomicInteger(10);
+		List<ApiParam> expected = ParamsBuildHelper.buildParams(RESULT_TYPE, "", 0, null, Boolean.TRUE,
+				new HashMap<>(16), builder, Collections.emptySet(), Collections.emptySet(), 5, false, expectedCounter);
+
+		Assertions.assertEquals(expected.toString(), second.toString());
+		Assertions.assertEquals(expectedCounter.get(), counter.get());
+		Assertions.assertNotSame(first.get(0), second.get(0));
+		second.get(0).setField("changed");
+		Assertions.assertEquals(first.get(0).getField(),
+				buildParams(builder, 0, new AtomicInteger()).get(0).getField());
+	}
+
+	@Test
+	void testJsonIsCached() {
+		ProjectDocConfigBuilder builder = builder();
+		String json = buildJson(builder);
+		Assertions.assertEquals(json, buildJson(builder));
+		Assertions.assertEquals(1, builder.getBuildContext().getExampleCache().getJsonHitCount());
+	}
+
+	@Test
+	void testSettingsAreKeyed() {
+		ProjectDocConfigBuilder builder = builder();
+		ApiConfig config = builder.getApiConfig();
+		config.setShowJavaType(Boolean.FALSE);
+		List<ApiParam> params = buildParams(builder, 0, null);
+		String json = buildJson(builder);
+		config.setShowJavaType(Boolean.TRUE);
+		config.setDisplayActualType(true);
+		config.setInlineEnum(Boolean.TRUE);
+		List<ApiParam> javaTypeParams = buildParams(builder, 0, null);
+		buildJson(builder);
+		ApiExampleCache cache = builder.getBuildContext().getExampleCache();
+		Assertions.assertEquals(0, cache.getParamHitCount());
+		Assertions.assertEquals(0, cache.getJsonHitCount());
+		Assertions.assertNotEquals(params.get(0).getType(), javaTypeParams.get(0).getType());
+
+		config.setShowJavaType(Boolean.FALSE);
+		config.setDisplayActualType(false);
+		config.setInlineEnum(Boolean.FALSE);
+		Assertions.assertEquals(params.toString(), buildParams(builder, 0, null).toString());
+		Assertions.assertEquals(json, buildJson(builder));
+		Assertions.assertEquals(1, cache.getParamHitCount());
+		Assertions.assertEquals(1, cache.getJsonHitCount());
+	}
+
+	private static ProjectDocConfigBuilder builder() {
+		JavaProjectBuilder projectBuilder = JavaProjectBuilderHelper.create();
+		return new ProjectDocConfigBuilder(new ApiConfig(), projectBuilder);
+	}
+
+	private static List<ApiParam> buildParams(ProjectDocConfigBuilder builder, int pid, AtomicInteger counter) {
+		return SampleProject.inBuild(builder,
+				() -> ParamsBuildHelper.buildParams(RESULT_TYPE, "", 0, null, Boolean.TRUE, new HashMap<>(16), builder,
+						Collections.emptySet(), Collections.emptySet(), pid, false, counter));
+	}
+
+	private static String buildJson(ProjectDocConfigBuilder builder) {
+		return SampleProject.inBuild(builder, () -> JsonBuildHelper.buildJson(Result.class.getName(), RESULT_TYPE,
+				Boolean.TRUE, 0, new HashMap<>(16), Collections.emptySet(), Collections.emptySet(), builder));
+	}
+
+	public static class Result<T> {
+
+		/**
+		 * code
+		 */
+		private int code;
+
+		/**
+		 * data
+		 */
+		private T data;
+
+		/**
+		 * items
+		 */
+		private List<Item> items;
+
+	}
+
+	public static class Item {
+
+		/**
+		 * name
+		 */
+		private String name;
+
+		/**
+		 * parent
+		 */
+		private Item parent;
+
+	}
+
+}
@@ -0,0 +1,165 @@
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.SampleProject;
+import io.github.smartdoc.builder.ProjectDocConfigBuilder;
+import io.github.smartdoc.enums.IEnum;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiDataDictionary;
+import io.github.smartdoc.model.ApiDoc;
+import io.github.smartdoc.model.DocBuildContext;
+import io.github.smartdoc.model.dependency.ApiDependency;
+import io.github.smartdoc.model.dependency.DependencyTree;
+import io.github.smartdoc.model.dependency.FileDiff;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test for {@link DocBuildHelper}
+ *
+ * @author agent 2026/10/18
+ */
+class DocBuildHelperTest {
+
+	@Test
+	void testChangedTypeInvalidatesReferencingControllers() throws IOException {
+		SampleProject project = SampleProject.create("user");
+		ProjectDocConfigBuilder builder = project.newBuilder(project.newConfig());
+		JavaProjectBuilder javaProjectBuilder = builder.getJavaProjectBuilder();
+		List<ApiDoc> apiDocs = SampleProject.renderApi(builder);
+
+		String baseDir = Files.createTempDirectory("dependency-tree").toString();
+		DocBuildHelper helper = DocBuildHelper.create(javaProjectBuilder, DependencyTree.detect(baseDir, true));
+		List<ApiDependency> dependencies = helper.buildDependencyTree(apiDocs);
+		ApiDependency user = dependency(dependencies, "com.test.UserController");
+		ApiDependency order = dependency(dependencies, "com.test.OrderController");
+		// the types are reached through the generic arguments and the fields
+		Assertions
+			.assertTrue(user.getTypes().containsAll(setOf("com.test.Result", "com.test.UserDTO", "com.test.Address")));
+		Assertions.assertFalse(user.getTypes().contains("com.test.Item"));
+		Assertions.assertTrue(order.getTypes().containsAll(setOf("com.test.OrderDTO", "com.test.Item")));
+		Assertions.assertFalse(order.getTypes().contains("com.test.UserDTO"));
+
+		// the types are kept by the dependency tree file
+		DependencyTree dependencyTree = DependencyTree.detect(baseDir, true);
+		dependencyTree.setConfig("commit", dependencies);
+		DependencyTree.write(dependencyTree);
+		dependencyTree = DependencyTree.detect(baseDir, true);
+		Assertions.assertEquals(user.getTypes(),
+				dependency(dependencyTree.getDependencyTree(), "com.test.UserController").getTypes());
+		helper = DocBuildHelper.create(javaProjectBuilder, dependencyTree);
+
+		Assertions.assertEquals(setOf("com.test.UserController"), relatedEntryPoints(helper, "com.test.Address"));
+		Assertions.assertEquals(setOf("com.test.OrderController"), relatedEntryPoints(helper, "com.test.Item"));
+		Assertions.assertEquals(setOf("com.test.UserController", "com.test.OrderController"),
+				relatedEntryPoints(helper, "com.test.UserDTO", "com.test.OrderDTO"));
+		Assertions.assertEquals(Collections.emptySet(), relatedEntryPoints(helper, "com.test.UserService"));
+	}
+
+	@Test
+	void testVcsChangesAreReadOncePerBuild() throws Exception {
+		SampleProject project = SampleProject.create("user");
+		ApiConfig config = project.newConfig();
+		config.setIncrement(true);
+		try (Git git = Git.init().setDirectory(project.getBaseDir()).call()) {
+			git.add().addFilepattern(".").call();
+			RevCommit commit = git.commit()
+				.setMessage("first")
+				.setAuthor("test", "test@example.com")
+				.setSign(false)
+				.call();
+			DependencyTree dependencyTree = DependencyTree.detect(config.getBaseDir(), true);
+			dependencyTree.setConfig(commit.getName(), Collections.emptyList());
+			DependencyTree.write(dependencyTree);
+			GitHelper gitHelper = GitHelper.create(git.getRepository());
+
+			File userDTO = new File(project.getSourceRoot(), "com/test/UserDTO.java");
+			Files.write(userDTO.toPath(),
+					"package com.test;\n\npublic class UserDTO {\n}\n".getBytes(StandardCharsets.UTF_8));
+			File page = new File(project.getSourceRoot(), "com/test/Page.java");
+			Files.write(page.toPath(),
+					"package com.test;\n\npublic class Page {\n}\n".getBytes(StandardCharsets.UTF_8));
+			DocBuildContext buildContext = new DocBuildContext(config);
+			Set<File> changedFiles = DocBuildHelper.getChangedSourceFiles(config, buildContext, gitHelper);
+			Assertions.assertEquals(setOf(userDTO, page), canonicalFiles(changedFiles));
+			Assertions.assertNotNull(buildContext.getVcsChanges());
+
+			// the analysis of the same build reads the changes kept by the context
+			project.delete("com/test/Item.java");
+			Assertions.assertEquals(setOf(userDTO, page),
+					canonicalFiles(DocBuildHelper.getChangedSourceFiles(config, buildContext, gitHelper)));
+			// the next build reads the repository again
+			Assertions.assertEquals(setOf(userDTO, page, new File(project.getSourceRoot(), "com/test/Item.java")),
+					canonicalFiles(
+							DocBuildHelper.getChangedSourceFiles(config, new DocBuildContext(config), gitHelper)));
+		}
+	}
+
+	@Test
+	void testInterfaceDictionaryParsesAllSources() throws IOException {
+		SampleProject project = SampleProject.create("user");
+		ApiConfig config = project.newConfig();
+		config.setIncrement(true);
+		// the enums implementing the interface are searched in all the sources
+		config.setDataDictionaries(ApiDataDictionary.builder().setTitle("enums").setEnumClass(IEnum.class));
+		ProjectDocConfigBuilder builder = project.newBuilder(config);
+		Assertions.assertNull(builder.getBuildContext().getVcsChanges());
+		Set<String> classes = builder.getJavaProjectBuilder()
+			.getClasses()
+			.stream()
+			.map(JavaClass::getFullyQualifiedName)
+			.collect(Collectors.toSet());
+		Assertions.assertTrue(classes.containsAll(setOf("com.test.UserDTO", "com.test.Item", "com.test.UserService")));
+	}
+
+	private static Set<File> canonicalFiles(Set<File> files) throws IOException {
+		Set<File> canonicalFiles = new HashSet<>();
+		for (File file : files) {
+			canonicalFiles.add(file.getCanonicalFile());
+		}
+		return canonicalFiles;
+	}
+
+	private static Set<String> relatedEntryPoints(DocBuildHelper helper, String... changedTypes) {
+		Set<FileDiff> diffList = new HashSet<>();
+		for (String changedType : changedTypes) {
+			FileDiff fileDiff = new FileDiff();
+			fileDiff.setChangeType(FileDiff.ChangeType.MODIFY);
+			fileDiff.setNewQualifiedName(changedType);
+			diffList.add(fileDiff);
+		}
+		helper.populateRelatedClazzAndMarkEntryPoint(diffList, clazz -> false);
+		return diffList.stream()
+			.filter(FileDiff::isEntryPoint)
+			.map(FileDiff::getNewQualifiedName)
+			.collect(Collectors.toSet());
+	}
+
+	private static ApiDependency dependency(List<ApiDependency> dependencies, String clazz) {
+		return dependencies.stream()
+			.filter(dependency -> clazz.equals(dependency.getClazz()))
+			.findFirst()
+			.orElseThrow(() -> new AssertionError("No dependency of " + clazz));
+	}
+
+	@SafeVarargs
+	private static <T> Set<T> setOf(T... values) {
+		Set<T> set = new HashSet<>();
+		Collections.addAll(set, values);
+		return set;
+	}
+
+}
@@ -0,0 +1,52 @@
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.model.DocJavaField;
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * Test for {@link DocJavaFieldCache}
+ *
+ * @author agent 2026/10/18
+ */
+class DocJavaFieldCacheTest {
+
+	@Test
+	void testFieldsAreResolvedOnce() {
+		JavaProjectBuilder projectBuilder = JavaProjectBuilderHelper.create();
+		projectBuilder.addSource(new StringReader("package com.test; public class BaseDTO { private Long id; }"));
+		projectBuilder.addSource(
+				new StringReader("package com.test; public class OrderDTO extends BaseDTO { private String no; }"));
+		JavaClass cls = projectBuilder.getClassByName("com.test.OrderDTO");
+
+		DocJavaFieldCache cache = new DocJavaFieldCache(null);
+		List<DocJavaField> first = cache.getFields(cls);
+		List<DocJavaField> second = cache.getFields(cls);
+
+		Assertions.assertEquals(2, first.size());
+		Assertions.assertSame(first, second);
+		Assertions.assertEquals(1, cache.getMissCount());
+		Assertions.assertEquals(1, cache.getHitCount());
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> first.add(DocJavaField.builder()));
+	}
+
+	@Test
+	void testCacheIsBounded() {
+		JavaProjectBuilder projectBuilder = JavaProjectBuilderHelper.create();
+		projectBuilder.addSource(new StringReader("package com.test; public class A { private int a; }"));
+		projectBuilder.addSource(new StringReader("package com.test; public class B { private int b; }"));
+
+		DocJavaFieldCache cache = new DocJavaFieldCache(null, 1);
+		cache.getFields(projectBuilder.getClassByName("com.test.A"));
+		cache.getFields(projectBuilder.getClassByName("com.test.B"));
+
+		Assertions.assertEquals(1, cache.size());
+		Assertions.assertTrue(cache.getFields(null).isEmpty());
+	}
+
+}
@@ -0,0 +1,74 @@
+package io.github.smartdoc.helper;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Test for {@link DocxTemplate}
+ *
+ * @author agent 2026/10/18
+ */
+class DocxTemplateTest {
+
+	private static final String TEMPLATE_DOCX = "template/word/template.docx";
+
+	@Test
+	void testDocumentIsReplaced() throws IOException {
+		Map<String, byte[]> template = new LinkedHashMap<>();
+		try (ZipInputStream in = new ZipInputStream(
+				DocxTemplateTest.class.getClassLoader().getResourceAsStream(TEMPLATE_DOCX))) {
+			ZipEntry entry;
+			while ((entry = in.getNextEntry()) != null) {
+				template.put(entry.getName(), readAll(in));
+			}
+		}
+		String content = "<w:document>" + String.join("", Collections.nCopies(10000, "文档 content ")) + "</w:document>";
+		Path output = Files.createTempDirectory("docx").resolve("test.docx");
+		DocxTemplate.of(TEMPLATE_DOCX).write(output.toString(), content);
+
+		List<String> names = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(output.toFile())) {
+			for (ZipEntry entry : Collections.list(zipFile.entries())) {
+				names.add(entry.getName());
+				byte[] bytes;
+				try (InputStream in = zipFile.getInputStream(entry)) {
+					bytes = readAll(in);
+				}
+				if (DocxTemplate.DOCUMENT_ENTRY.equals(entry.getName())) {
+					Assertions.assertEquals(content, new String(bytes, StandardCharsets.UTF_8));
+				}
+				else {
+					Assertions.assertArrayEquals(template.get(entry.getName()), bytes, entry.getName());
+				}
+			}
+		}
+		Assertions.assertEquals(new ArrayList<>(template.keySet()), names);
+		Assertions.assertSame(DocxTemplate.of(TEMPLATE_DOCX), DocxTemplate.of(TEMPLATE_DOCX));
+	}
+
+	private static byte[] readAll(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int len;
+		while ((len = in.read(buffer)) > 0) {
+			out.write(buffer, 0, len);
+		}
+		return out.toByteArray();
+	}
+
+}
@@ -0,0 +1,72 @@
+package io.github.smartdoc.helper;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test for {@link GitHelper}
+ *
+ * @author agent 2026/10/18
+ */
+class GitHelperTest {
+
+	@Test
+	void testMovedFileIsOneRename() throws Exception {
+		File workDir = Files.createTempDirectory("git-helper").toFile();
+		try (Git git = Git.init().setDirectory(workDir).call()) {
+			Path user = write(workDir, "src/main/java/com/test/User.java",
+					"package com.test;\n\npublic class User {\n\n\tprivate String name;\n\n}\n");
+			write(workDir, "src/main/java/com/test/Order.java", "package com.test;\n\npublic class Order {\n}\n");
+			git.add().addFilepattern(".").call();
+			RevCommit first = commit(git, "first");
+
+			// move the class to another package
+			Path moved = write(workDir, "src/main/java/com/test/model/User.java",
+					new String(Files.readAllBytes(user), StandardCharsets.UTF_8));
+			Files.delete(user);
+			git.add().addFilepattern(".").call();
+			git.add().setUpdate(true).addFilepattern(".").call();
+			commit(git, "move");
+
+			GitHelper helper = GitHelper.create(git.getRepository());
+			List<DiffEntry> diff = helper.getDiff(first.getName());
+			Assertions.assertEquals(1, diff.size());
+			DiffEntry entry = diff.get(0);
+			Assertions.assertEquals(DiffEntry.ChangeType.RENAME, entry.getChangeType());
+			Assertions.assertEquals("src/main/java/com/test/User.java", entry.getOldPath());
+			Assertions.assertEquals("src/main/java/com/test/model/User.java", entry.getNewPath());
+			// the diff restricted to another path doesn't see the move
+			Assertions.assertEquals(Collections.emptyList(),
+					helper.getDiff(first.getName(), Collections.singletonList("src/test")));
+
+			// the deprecated status methods read the status walk
+			Files.write(moved, "package com.test.model;\n".getBytes(StandardCharsets.UTF_8));
+			write(workDir, "src/main/java/com/test/Item.java", "package com.test;\n");
+			Assertions.assertEquals(Collections.singleton("src/main/java/com/test/model/User.java"),
+					helper.getUncommitted());
+			Assertions.assertEquals(Collections.singleton("src/main/java/com/test/Item.java"), helper.getUntracked());
+		}
+	}
+
+	private static Path write(File workDir, String path, String content) throws IOException {
+		Path file = workDir.toPath().resolve(path);
+		Files.createDirectories(file.getParent());
+		return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static RevCommit commit(Git git, String message) throws Exception {
+		return git.commit().setMessage(message).setAuthor("test", "test@example.com").setSign(false).call();
+	}
+
+}
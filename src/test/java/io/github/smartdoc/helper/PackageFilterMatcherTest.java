@@ -0,0 +1,41 @@
+package io.github.smartdoc.helper;
+
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Test for {@link PackageFilterMatcher}
+ *
+ * @author agent 2026/10/18
+ */
+class PackageFilterMatcherTest {
+
+	@Test
+	void testMatchName() {
+		PackageFilterMatcher matcher = new PackageFilterMatcher("com.example.web,com.*.api.*");
+		Assertions.assertTrue(matcher.matches("com.example.web.UserController"));
+		Assertions.assertTrue(matcher.matches("com.foo.api.OrderApi"));
+		Assertions.assertFalse(matcher.matches("org.example.web.UserController"));
+	}
+
+	@Test
+	void testMatchClass() {
+		JavaProjectBuilder builder = new JavaProjectBuilder();
+		builder.addSource(new StringReader(
+				"package com.example.web; public class UserController { public void add(){} public void list(){} }"));
+		JavaClass controller = builder.getClassByName("com.example.web.UserController");
+
+		Assertions.assertEquals(Collections.singleton("*"), new PackageFilterMatcher("com.example").match(controller));
+		Assertions.assertEquals(new HashSet<>(Arrays.asList("add", "list")),
+				new PackageFilterMatcher("com.example.web.UserController.add,com.*Controller.l.*").match(controller));
+		Assertions.assertNull(new PackageFilterMatcher("org.example,com.*Api.*").match(controller));
+	}
+
+}
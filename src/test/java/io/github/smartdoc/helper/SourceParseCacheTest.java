@@ -0,0 +1,49 @@
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.SampleProject;
+import io.github.smartdoc.builder.ProjectDocConfigBuilder;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.utils.JsonUtil;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test for {@link SourceParseCache}
+ *
+ * @author agent 2026/10/18
+ */
+class SourceParseCacheTest {
+
+	@Test
+	void testCachedBuildDocumentsTheSameApis() throws IOException {
+		SampleProject project = SampleProject.create("user");
+		ApiConfig config = project.newConfig();
+		config.setSourceCache(true);
+
+		ProjectDocConfigBuilder cold = project.newBuilder(config);
+		String coldApis = JsonUtil.toPrettyJson(SampleProject.renderApi(cold));
+		Assertions.assertTrue(classNames(cold).contains("com.test.UserDTO"));
+		// the fields of the referenced types are documented
+		Assertions.assertTrue(coldApis.contains("city"));
+
+		ProjectDocConfigBuilder cached = project.newBuilder(config);
+		// the unchanged plain types are not parsed up front, they are resolved on demand
+		Assertions.assertFalse(classNames(cached).contains("com.test.UserDTO"));
+		Assertions.assertTrue(classNames(cached).contains("com.test.UserController"));
+		Assertions.assertEquals(coldApis, JsonUtil.toPrettyJson(SampleProject.renderApi(cached)));
+	}
+
+	private static Set<String> classNames(ProjectDocConfigBuilder builder) {
+		return builder.getJavaProjectBuilder()
+			.getClasses()
+			.stream()
+			.map(JavaClass::getFullyQualifiedName)
+			.collect(Collectors.toSet());
+	}
+
+}
@@ -0,0 +1,88 @@
+package io.github.smartdoc.helper;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Test for {@link TornaPushHelper} against a local stub server
+ *
+ * @author agent 2026/10/18
+ */
+class TornaPushHelperTest {
+
+	private HttpServer server;
+
+	private String url;
+
+	private final AtomicInteger failures = new AtomicInteger();
+
+	private final List<String> bodies = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/api", exchange -> {
+			InputStream in = exchange.getRequestBody();
+			if ("gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+				in = new GZIPInputStream(in);
+			}
+			bodies.add(read(in));
+			boolean fail = failures.getAndDecrement() > 0;
+			byte[] response = (fail ? "busy" : "{\"code\":\"0\"}").getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(fail ? 503 : 200, response.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(response);
+			}
+		});
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+	}
+
+	@AfterEach
+	void stopServer() {
+		server.stop(0);
+	}
+
+	@Test
+	void testTransientFailuresAreRetried() {
+		failures.set(2);
+		TornaPushHelper pushHelper = new TornaPushHelper(url, 2, true, 1);
+		String response = pushHelper.postJson("doc.push", "{\"name\":\"doc.push\"}");
+		Assertions.assertEquals("{\"code\":\"0\"}", response);
+		Assertions.assertEquals(3, bodies.size());
+		Assertions.assertEquals("{\"name\":\"doc.push\"}", bodies.get(2));
+	}
+
+	@Test
+	void testGiveUpAfterRetries() {
+		failures.set(5);
+		TornaPushHelper pushHelper = new TornaPushHelper(url, 1, false, 1);
+		Assertions.assertNull(pushHelper.postJson("doc.push", "{}"));
+		Assertions.assertEquals(2, bodies.size());
+	}
+
+	private static String read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1024];
+		int len;
+		while ((len = in.read(buffer)) != -1) {
+			out.write(buffer, 0, len);
+		}
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,68 @@
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.torna.Apis;
+import io.github.smartdoc.model.torna.TornaApi;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test for {@link TornaPushManifest}
+ *
+ * @author agent 2026/10/18
+ */
+class TornaPushManifestTest {
+
+	@Test
+	void testOnlyChangedEntriesArePushed() throws IOException {
+		ApiConfig apiConfig = new ApiConfig();
+		apiConfig.setBaseDir(Files.createTempDirectory("torna-manifest").toString());
+		apiConfig.setOpenUrl("http://localhost/api");
+		apiConfig.setAppToken("token");
+
+		TornaApi tornaApi = tornaApi("user", "order");
+		TornaPushManifest manifest = TornaPushManifest.detect(apiConfig, tornaApi);
+		Assertions.assertTrue(manifest.isFullPush());
+		manifest.markPushed(manifest.getChanged(tornaApi.getApis()));
+		manifest.save();
+
+		tornaApi = tornaApi("user", "order");
+		tornaApi.getApis().get(1).setDescription("changed");
+		manifest = TornaPushManifest.detect(apiConfig, tornaApi);
+		Assertions.assertFalse(manifest.isFullPush());
+		List<Apis> changed = manifest.getChanged(tornaApi.getApis());
+		Assertions.assertEquals(Collections.singletonList(tornaApi.getApis().get(1)), changed);
+
+		// a failed push is retried by the next build
+		manifest.save();
+		manifest = TornaPushManifest.detect(apiConfig, tornaApi);
+		Assertions.assertEquals(1, manifest.getChanged(tornaApi.getApis()).size());
+
+		// a removed entry can only be removed from torna by a full push
+		tornaApi = tornaApi("user");
+		Assertions.assertTrue(TornaPushManifest.detect(apiConfig, tornaApi).isFullPush());
+
+		apiConfig.setTornaFullResync(true);
+		Assertions.assertTrue(TornaPushManifest.detect(apiConfig, tornaApi("user", "order")).isFullPush());
+	}
+
+	private static TornaApi tornaApi(String... names) {
+		List<Apis> apis = new ArrayList<>();
+		for (String name : names) {
+			Apis api = new Apis();
+			api.setName(name);
+			api.setIsFolder("1");
+			apis.add(api);
+		}
+		TornaApi tornaApi = new TornaApi();
+		tornaApi.setApis(apis);
+		return tornaApi;
+	}
+
+}
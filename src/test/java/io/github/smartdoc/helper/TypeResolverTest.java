@@ -0,0 +1,58 @@
+package io.github.smartdoc.helper;
+
+import io.github.smartdoc.builder.ProjectDocConfigBuilder;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.DocJavaField;
+import io.github.smartdoc.utils.DocUtil;
+import com.thoughtworks.qdox.model.JavaClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Test for {@link TypeResolver}
+ *
+ * @author agent 2026/10/18
+ */
+class TypeResolverTest {
+
+	@Test
+	void testTypeIsResolvedOnce() {
+		ProjectDocConfigBuilder builder = new ProjectDocConfigBuilder(new ApiConfig(),
+				JavaProjectBuilderHelper.create());
+		TypeResolver resolver = builder.getTypeResolver();
+		String typeName = Page.class.getName() + "<java.lang.String>";
+
+		String[] names = resolver.getGenericNames(typeName);
+		names[0] = "changed";
+		Assertions.assertArrayEquals(new String[] { "java.lang.String" }, resolver.getGenericNames(typeName));
+
+		JavaClass cls = builder.getJavaProjectBuilder().getClassByName(Optional.class.getName());
+		Map<String, String> genericMap = resolver.getGenericMap(cls, resolver.getGenericNames(typeName));
+		Assertions.assertEquals(Collections.singletonMap("T", "java.lang.String"), genericMap);
+		Assertions.assertSame(genericMap, resolver.getGenericMap(cls, resolver.getGenericNames(typeName)));
+
+		List<DocJavaField> fields = builder.getDocJavaFieldCache()
+			.getFields(builder.getJavaProjectBuilder().getClassByName(Page.class.getName()));
+		DocJavaField field = fields.get(0);
+		Map<String, String> tags = resolver.getFieldTags(field);
+		Assertions.assertEquals(DocUtil.getFieldTagsValue(field.getJavaField(), field), tags);
+		Assertions.assertSame(tags, resolver.getFieldTags(field));
+		Assertions.assertTrue(resolver.getHitCount() > 0);
+	}
+
+	public static class Page<T> {
+
+		/**
+		 * rows
+		 * @since 1.0
+		 */
+		private List<T> rows;
+
+	}
+
+}
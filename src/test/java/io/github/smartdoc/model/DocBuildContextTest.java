@@ -0,0 +1,75 @@
+package io.github.smartdoc.model;
+
+import io.github.smartdoc.SampleProject;
+import io.github.smartdoc.builder.openapi.OpenApiBuilder;
+import io.github.smartdoc.constants.ComponentTypeEnum;
+import io.github.smartdoc.constants.DocGlobalConstants;
+import io.github.smartdoc.helper.JavaProjectBuilderHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test for {@link DocBuildContext}
+ *
+ * @author agent 2026/10/18
+ */
+class DocBuildContextTest {
+
+	@Test
+	void testConcurrentBuildsDoNotShareState() throws Exception {
+		SampleProject search = SampleProject.create("openapi");
+		SampleProject user = SampleProject.create("user");
+		// the documents of the builds running alone
+		String searchDoc = build(search, ComponentTypeEnum.NORMAL);
+		String userDoc = build(user, ComponentTypeEnum.RANDOM);
+		// the tag and the operation ids of the search methods, the component named after
+		// the class
+		Assertions.assertTrue(searchDoc.contains("\"search\""));
+		Assertions.assertTrue(searchDoc.contains("\"search_2\""));
+		Assertions.assertTrue(searchDoc.contains("#/components/schemas/UserDTO"));
+		Assertions.assertFalse(userDoc.contains("search"));
+		Assertions.assertTrue(userDoc.contains("\"get_1\""));
+		Assertions.assertFalse(userDoc.contains("#/components/schemas/UserDTO"));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int round = 0; round < 5; round++) {
+				CyclicBarrier barrier = new CyclicBarrier(2);
+				Future<String> searchBuild = executor.submit(() -> {
+					barrier.await();
+					return build(search, ComponentTypeEnum.NORMAL);
+				});
+				Future<String> userBuild = executor.submit(() -> {
+					barrier.await();
+					return build(user, ComponentTypeEnum.RANDOM);
+				});
+				// the tags, operation ids and component names of one build don't leak
+				// into the other
+				Assertions.assertEquals(searchDoc, searchBuild.get());
+				Assertions.assertEquals(userDoc, userBuild.get());
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		Assertions.assertNull(DocBuildContext.current());
+	}
+
+	private static String build(SampleProject project, ComponentTypeEnum componentType) throws IOException {
+		ApiConfig config = project.newConfig();
+		config.setComponentType(componentType);
+		OpenApiBuilder.buildOpenApi(config, JavaProjectBuilderHelper.create());
+		return new String(Files.readAllBytes(Paths.get(config.getOutPath() + DocGlobalConstants.OPEN_API_JSON)),
+				StandardCharsets.UTF_8);
+	}
+
+}
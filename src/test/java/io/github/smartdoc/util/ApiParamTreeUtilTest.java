@@ -0,0 +1,55 @@
+package io.github.smartdoc.util;
+
+import io.github.smartdoc.constants.DocGlobalConstants;
+import io.github.smartdoc.model.ApiParam;
+import io.github.smartdoc.utils.ApiParamTreeUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test for {@link ApiParamTreeUtil}
+ *
+ * @author agent 2026/10/18
+ */
+class ApiParamTreeUtilTest {
+
+	@Test
+	void testApiParamToTree() {
+		List<ApiParam> params = new ArrayList<>();
+		params.add(ApiParam.of().setId(1).setPid(0).setField("code"));
+		params.add(ApiParam.of().setId(2).setPid(0).setField("data"));
+		params.add(ApiParam.of().setId(3).setPid(2).setField("&nbsp;" + DocGlobalConstants.PARAM_PREFIX + "name"));
+		params.add(ApiParam.of().setId(4).setPid(2).setField(DocGlobalConstants.PARAM_PREFIX + "age"));
+
+		List<ApiParam> tree = ApiParamTreeUtil.apiParamToTree(params);
+
+		Assertions.assertEquals(2, tree.size());
+		Assertions.assertTrue(tree.get(0).getChildren().isEmpty());
+		List<ApiParam> children = tree.get(1).getChildren();
+		Assertions.assertEquals(2, children.size());
+		Assertions.assertEquals("name", children.get(0).getField());
+		Assertions.assertEquals("age", children.get(1).getField());
+	}
+
+	@Test
+	void testDepthIsCutOff() {
+		List<ApiParam> params = new ArrayList<>();
+		for (int i = 1; i <= 12; i++) {
+			params.add(ApiParam.of().setId(i).setPid(i - 1).setField("f" + i));
+		}
+
+		List<ApiParam> tree = ApiParamTreeUtil.apiParamToTree(params);
+
+		int depth = 0;
+		ApiParam node = tree.get(0);
+		while (!node.getChildren().isEmpty()) {
+			node = node.getChildren().get(0);
+			depth++;
+		}
+		Assertions.assertEquals(8, depth);
+	}
+
+}
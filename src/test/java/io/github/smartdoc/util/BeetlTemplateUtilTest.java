@@ -0,0 +1,85 @@
+package io.github.smartdoc.util;
+
+import io.github.smartdoc.utils.BeetlTemplateUtil;
+import org.beetl.core.Template;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Test for {@link BeetlTemplateUtil}
+ *
+ * @author agent 2026/10/18
+ */
+class BeetlTemplateUtilTest {
+
+	@Test
+	void testGroupTemplateIsReused() {
+		Template template = BeetlTemplateUtil.getByName("BeetlTest.btl");
+		Assertions.assertSame(template.gt, BeetlTemplateUtil.getByName("BeetlTest.btl").gt);
+		Assertions.assertSame(template.gt, BeetlTemplateUtil.getByName("ApiDoc.md").gt);
+		// the html templates are compressed by their own engine
+		Assertions.assertNotSame(template.gt, BeetlTemplateUtil.getByName("AllInOne.html").gt);
+		Assertions.assertSame(BeetlTemplateUtil.getByName("AllInOne.html").gt,
+				BeetlTemplateUtil.getByName("HtmlApiDoc.html").gt);
+	}
+
+	@Test
+	void testSmartDocPropertiesAreLoaded() {
+		Template template = BeetlTemplateUtil.getByName("BeetlTest.btl");
+		Assertions.assertEquals("false", template.gt.getConf().getResourceMap().get("autoCheck"));
+		// the function package of the line after it is registered
+		template.binding("name", "order-id");
+		Assertions.assertEquals("order_id", template.render());
+	}
+
+	@Test
+	void testContextClassLoaderIsRestored() {
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		ClassLoader classLoader = new URLClassLoader(new URL[0], previous);
+		thread.setContextClassLoader(classLoader);
+		try {
+			BeetlTemplateUtil.getByName("Dictionary.md");
+			BeetlTemplateUtil.getByName("debug-all.html");
+			Assertions.assertSame(classLoader, thread.getContextClassLoader());
+		}
+		finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+
+	@Test
+	void testRenderToFile() throws IOException {
+		File dir = Files.createTempDirectory("beetl").toFile();
+		// the missing parent dirs are created
+		String filePath = new File(dir, "docs/api/BeetlTest.md").getPath();
+		Template template = BeetlTemplateUtil.getByName("BeetlTest.btl");
+		template.binding("name", "订单-编号-" + repeat("x", 100_000));
+		BeetlTemplateUtil.renderToFile(template, filePath);
+		Assertions.assertEquals("订单_编号_" + repeat("x", 100_000),
+				new String(Files.readAllBytes(new File(filePath).toPath()), StandardCharsets.UTF_8));
+
+		// the content of an existing file is replaced
+		template = BeetlTemplateUtil.getByName("BeetlTest.btl");
+		template.binding("name", "a-b");
+		BeetlTemplateUtil.renderToFile(template, filePath);
+		Assertions.assertEquals("a_b",
+				new String(Files.readAllBytes(new File(filePath).toPath()), StandardCharsets.UTF_8));
+	}
+
+	private static String repeat(String value, int count) {
+		StringBuilder builder = new StringBuilder(value.length() * count);
+		for (int i = 0; i < count; i++) {
+			builder.append(value);
+		}
+		return builder.toString();
+	}
+
+}
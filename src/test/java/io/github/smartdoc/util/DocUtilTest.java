@@ -5,6 +5,10 @@ import io.github.smartdoc.constants.DocLanguage;
 import io.github.smartdoc.constants.DocTags;
 import io.github.smartdoc.enums.IEnum;
 import io.github.smartdoc.enums.OrderEnum;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiDocDict;
+import io.github.smartdoc.model.ApiErrorCode;
+import io.github.smartdoc.model.DocBuildContext;
 import io.github.smartdoc.utils.DocUtil;
 import com.thoughtworks.qdox.model.DocletTag;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -227,4 +232,19 @@ public class DocUtilTest {
 		assertTrue(result.containsKey(""), "Map should contain an entry with an empty string key.");
 	}
 
+	@Test
+	public void testDictionaryIsComputedOncePerBuild() {
+		ApiConfig config = new ApiConfig();
+		DocBuildContext previous = DocBuildContext.bind(new DocBuildContext(config));
+		try {
+			List<ApiDocDict> dictionaries = DocUtil.buildDictionary(config, null);
+			List<ApiErrorCode> errorCodes = DocUtil.errorCodeDictToList(config, null);
+			assertSame(dictionaries, DocUtil.buildDictionary(config, null));
+			assertSame(errorCodes, DocUtil.errorCodeDictToList(config, null));
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
+	}
+
 }
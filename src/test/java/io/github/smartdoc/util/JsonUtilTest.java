@@ -2,6 +2,9 @@ package io.github.smartdoc.util;
 
 import io.github.smartdoc.utils.JsonUtil;
 
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -18,4 +21,22 @@ public class JsonUtilTest {
 				"{\"success\":true,\"message\":\"\",\"data\":\"\",\"code\":\"\",\"timestamp\":\"\",\"traceId\":\"\"}"));
 	}
 
+	@Test
+	public void testPrettyFormatMatchesGson() {
+		String[] jsons = { "{\"a\":[1,-0.5e3,true,null,{}],\"b\":{\"c\":\"\\u00e9\\/\\\"\\n\u2028\"},\"d\":[]}",
+				"[ {\"id\" : 1} , [\"x\"] ]", "{\"a\":null,\"b\":1}", "{\"a\":1,\"a\":2}", "{\"a\":01}", "{\"a\":abc}",
+				"[1,]" };
+		for (String json : jsons) {
+			String expected = new GsonBuilder().setPrettyPrinting()
+				.disableHtmlEscaping()
+				.create()
+				.toJson(JsonParser.parseString(json));
+			Assertions.assertEquals(expected, JsonUtil.toPrettyFormat(json), json);
+		}
+		// invalid json is returned as it is
+		for (String json : new String[] { "{\"a\":1} trailing", "{\"a\":\"\\x\"}" }) {
+			Assertions.assertEquals(json, JsonUtil.toPrettyFormat(json));
+		}
+	}
+
 }
@@ -0,0 +1,58 @@
+package io.github.smartdoc.util;
+
+import io.github.smartdoc.SampleProject;
+import io.github.smartdoc.builder.openapi.OpenApiBuilder;
+import io.github.smartdoc.constants.DocGlobalConstants;
+import io.github.smartdoc.helper.JavaProjectBuilderHelper;
+import io.github.smartdoc.model.ApiConfig;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test for {@link OpenApiBuilder}
+ *
+ * @author agent 2026/10/18
+ */
+class OpenApiBuilderTest {
+
+	@Test
+	void testOperationIdsFollowTheMethodOrder() throws IOException {
+		// the path /users is shared by both controllers and all the methods are named
+		// search
+		SampleProject project = SampleProject.create("openapi");
+		ApiConfig config = project.newConfig();
+		OpenApiBuilder.buildOpenApi(config, JavaProjectBuilderHelper.create());
+
+		String json = new String(Files.readAllBytes(Paths.get(config.getOutPath() + DocGlobalConstants.OPEN_API_JSON)),
+				StandardCharsets.UTF_8);
+		JsonObject paths = JsonParser.parseString(json).getAsJsonObject().getAsJsonObject("paths");
+		// the operations of a path are merged under the first occurrence of the path
+		Assertions.assertEquals(Arrays.asList("/users", "/users/orders"), new ArrayList<>(paths.keySet()));
+		// the ids are numbered in the order of the methods
+		Map<String, String> operationIds = new HashMap<>();
+		for (String path : paths.keySet()) {
+			JsonObject pathItem = paths.getAsJsonObject(path);
+			for (String method : pathItem.keySet()) {
+				operationIds.put(method + " " + path,
+						pathItem.getAsJsonObject(method).get("operationId").getAsString());
+			}
+		}
+		Map<String, String> expected = new HashMap<>();
+		expected.put("get /users", "search");
+		expected.put("get /users/orders", "search_1");
+		expected.put("post /users", "search_2");
+		Assertions.assertEquals(expected, operationIds);
+	}
+
+}
@@ -0,0 +1,83 @@
+package io.github.smartdoc.util;
+
+import io.github.smartdoc.constants.ComponentTypeEnum;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.ApiParam;
+import io.github.smartdoc.model.DocBuildContext;
+import io.github.smartdoc.utils.OpenApiSchemaUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test for {@link OpenApiSchemaUtil}
+ *
+ * @author agent 2026/10/18
+ */
+class OpenApiSchemaUtilTest {
+
+	@Test
+	void testStructureHashIgnoresPosition() {
+		List<ApiParam> first = Collections.singletonList(user(1));
+		List<ApiParam> second = Collections.singletonList(user(10));
+		Assertions.assertEquals(OpenApiSchemaUtil.getStructureHash(first), OpenApiSchemaUtil.getStructureHash(second));
+
+		List<ApiParam> changed = Collections.singletonList(user(20));
+		changed.get(0).getChildren().get(1).setRequired(true);
+		Assertions.assertNotEquals(OpenApiSchemaUtil.getStructureHash(first),
+				OpenApiSchemaUtil.getStructureHash(changed));
+	}
+
+	@Test
+	void testComponentNameKeyedByStructure() {
+		ApiConfig apiConfig = new ApiConfig();
+		apiConfig.setComponentType(ComponentTypeEnum.NORMAL);
+		DocBuildContext previous = DocBuildContext.bind(new DocBuildContext(apiConfig));
+		try {
+			List<ApiParam> request = user(1).getChildren();
+			List<ApiParam> response = user(10).getChildren();
+			List<ApiParam> grouped = user(20).getChildren().subList(0, 1);
+			Assertions.assertEquals("User", OpenApiSchemaUtil.getClassNameFromParams(request));
+			Assertions.assertEquals("User", OpenApiSchemaUtil.getClassNameFromParams(response));
+			Assertions.assertEquals("User_2", OpenApiSchemaUtil.getClassNameFromParams(grouped));
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
+	}
+
+	@Test
+	void testComponentNameWithoutBuild() {
+		Assertions.assertNull(DocBuildContext.current());
+		List<ApiParam> request = user(1).getChildren();
+		Assertions.assertEquals(OpenApiSchemaUtil.getStructureHash(request),
+				OpenApiSchemaUtil.getClassNameFromParams(request));
+	}
+
+	private static ApiParam user(int id) {
+		ApiParam name = ApiParam.of()
+			.setId(id + 1)
+			.setPid(id)
+			.setField("name")
+			.setType("string")
+			.setDesc("name")
+			.setClassName("com.example.User");
+		ApiParam age = ApiParam.of()
+			.setId(id + 2)
+			.setPid(id)
+			.setField("age")
+			.setType("int32")
+			.setDesc("age")
+			.setClassName("com.example.User");
+		return ApiParam.of()
+			.setId(id)
+			.setField("user")
+			.setType("object")
+			.setClassName("com.example.User")
+			.setChildren(Arrays.asList(name, age));
+	}
+
+}
@@ -0,0 +1,150 @@
+package io.github.smartdoc.util;
+
+import io.github.smartdoc.builder.openapi.OpenApiWriter;
+import io.github.smartdoc.constants.DocGlobalConstants;
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.utils.JsonUtil;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test for {@link OpenApiWriter}
+ *
+ * @author agent 2026/10/18
+ */
+class OpenApiWriterTest {
+
+	@Test
+	void testPrettyJsonMatchesGson() throws IOException {
+		ApiConfig config = config(false, false);
+		write(config);
+		Assertions.assertEquals(JsonUtil.toPrettyJson(document()), read(config, DocGlobalConstants.OPEN_API_JSON));
+	}
+
+	@Test
+	void testCompactJson() throws IOException {
+		ApiConfig config = config(true, false);
+		write(config);
+		String json = read(config, DocGlobalConstants.OPEN_API_JSON);
+		Assertions.assertEquals(new GsonBuilder().disableHtmlEscaping().create().toJson(document()), json);
+		Assertions.assertFalse(json.contains("\n  "));
+	}
+
+	@Test
+	void testYamlQuotesAndEscapesStrings() throws IOException {
+		ApiConfig config = config(false, true);
+		write(config);
+		String expected = "\"openapi\": \"3.0.3\"\n" + "\"info\":\n" + "  \"title\": \"user: api #1\"\n"
+				+ "  \"description\": \"first line\\nsecond line\\n\"\n" + "  \"version\": \"- 1.0\"\n" + "\"tags\":\n"
+				+ "  - \"name\": \"user\"\n" + "    \"description\": \"# user: manage\"\n"
+				+ "  - \"name\": \"-order\"\n" + "\"paths\":\n" + "  \"/user/{id}\":\n" + "    \"get\":\n"
+				+ "      \"summary\": \"get user: by id\"\n" + "      \"deprecated\": false\n"
+				+ "      \"parameters\":\n" + "        - \"name\": \"id\"\n" + "          \"required\": true\n"
+				+ "          \"schema\":\n" + "            \"type\": \"integer\"\n" + "            \"example\": 100\n"
+				+ "      \"security\": []\n" + "      \"x-matrix\":\n" + "        - - \"a\\tb\"\n"
+				+ "          - \"\\\"quoted\\\" \\\\ slash\"\n" + "        - []\n" + "\"components\":\n"
+				+ "  \"schemas\":\n" + "    \"User\":\n" + "      \"type\": \"object\"\n" + "      \"properties\": {}\n"
+				+ "  \"securitySchemes\": {}\n";
+		Assertions.assertEquals(expected, read(config, DocGlobalConstants.OPEN_API_YAML));
+	}
+
+	private static ApiConfig config(boolean compact, boolean yaml) throws IOException {
+		ApiConfig config = new ApiConfig();
+		config.setOutPath(Files.createTempDirectory("openapi-writer").toString());
+		config.setOpenApiCompact(compact);
+		config.setOpenApiYaml(yaml);
+		return config;
+	}
+
+	/**
+	 * Stream the document the way the openapi builders do.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void write(ApiConfig config) throws IOException {
+		Map<String, Object> document = document();
+		Map<String, Object> paths = (Map<String, Object>) document.remove("paths");
+		Map<String, Object> components = (Map<String, Object>) document.remove("components");
+		try (OpenApiWriter writer = OpenApiWriter.create(config)) {
+			writer.beginObject(null);
+			writer.writeAll(document);
+			// a null value is skipped as gson does
+			writer.write("externalDocs", null);
+			writer.beginObject("paths");
+			for (Map.Entry<String, Object> entry : paths.entrySet()) {
+				writer.write(entry.getKey(), entry.getValue());
+			}
+			writer.endObject();
+			writer.beginObject("components");
+			writer.beginObject("schemas");
+			writer.writeAll((Map<String, Object>) components.get("schemas"));
+			writer.endObject();
+			writer.beginObject("securitySchemes");
+			writer.endObject();
+			writer.endObject();
+			writer.endObject();
+		}
+	}
+
+	private static Map<String, Object> document() {
+		Map<String, Object> info = new LinkedHashMap<>();
+		info.put("title", "user: api #1");
+		info.put("description", "first line\nsecond line\n");
+		info.put("version", "- 1.0");
+		Map<String, Object> userTag = new LinkedHashMap<>();
+		userTag.put("name", "user");
+		userTag.put("description", "# user: manage");
+		Map<String, Object> orderTag = new LinkedHashMap<>();
+		orderTag.put("name", "-order");
+
+		Map<String, Object> schema = new LinkedHashMap<>();
+		schema.put("type", "integer");
+		schema.put("example", 100);
+		Map<String, Object> parameter = new LinkedHashMap<>();
+		parameter.put("name", "id");
+		parameter.put("required", true);
+		parameter.put("schema", schema);
+		Map<String, Object> get = new LinkedHashMap<>();
+		get.put("summary", "get user: by id");
+		get.put("deprecated", false);
+		get.put("parameters", Collections.singletonList(parameter));
+		get.put("security", new ArrayList<>());
+		get.put("x-matrix", Arrays.asList(Arrays.asList("a\tb", "\"quoted\" \\ slash"), new ArrayList<>()));
+		Map<String, Object> path = new LinkedHashMap<>();
+		path.put("get", get);
+		Map<String, Object> paths = new LinkedHashMap<>();
+		paths.put("/user/{id}", path);
+
+		Map<String, Object> user = new LinkedHashMap<>();
+		user.put("type", "object");
+		user.put("properties", new LinkedHashMap<>());
+		Map<String, Object> schemas = new LinkedHashMap<>();
+		schemas.put("User", user);
+		Map<String, Object> components = new LinkedHashMap<>();
+		components.put("schemas", schemas);
+		components.put("securitySchemes", new LinkedHashMap<>());
+
+		Map<String, Object> document = new LinkedHashMap<>();
+		document.put("openapi", "3.0.3");
+		document.put("info", info);
+		document.put("tags", Arrays.asList(userTag, orderTag));
+		document.put("paths", paths);
+		document.put("components", components);
+		return document;
+	}
+
+	private static String read(ApiConfig config, String fileName) throws IOException {
+		return new String(Files.readAllBytes(Paths.get(config.getOutPath() + fileName)), StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,83 @@
+package io.github.smartdoc.util;
+
+import io.github.smartdoc.model.ApiConfig;
+import io.github.smartdoc.model.DocBuildContext;
+import io.github.smartdoc.utils.ParallelUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for {@link ParallelUtil}
+ *
+ * @author agent 2026/10/18
+ */
+class ParallelUtilTest {
+
+	@Test
+	void testMapKeepsOrder() {
+		List<Integer> items = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			items.add(i);
+		}
+		List<String> results = ParallelUtil.map(items, 4, "test", i -> "item-" + i);
+		Assertions.assertEquals(items.size(), results.size());
+		for (int i = 0; i < items.size(); i++) {
+			Assertions.assertEquals("item-" + i, results.get(i));
+		}
+	}
+
+	@Test
+	void testBuildPoolIsShared() {
+		DocBuildContext context = new DocBuildContext(new ApiConfig());
+		DocBuildContext previous = DocBuildContext.bind(context);
+		try {
+			List<Integer> items = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				items.add(i);
+			}
+			Set<String> threads = ConcurrentHashMap.newKeySet();
+			AtomicInteger running = new AtomicInteger();
+			AtomicInteger maxRunning = new AtomicInteger();
+			for (int round = 0; round < 2; round++) {
+				ParallelUtil.forEach(items, 2, "test", i -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					String thread = Thread.currentThread().getName();
+					threads.add(thread);
+					Assertions.assertSame(context, DocBuildContext.current());
+					// a nested task runs in the worker thread
+					List<String> nested = ParallelUtil.map(Arrays.asList(1, 2), 2, "nested",
+							n -> Thread.currentThread().getName());
+					Assertions.assertEquals(Collections.nCopies(2, thread), nested);
+					running.decrementAndGet();
+				});
+			}
+			Assertions.assertTrue(maxRunning.get() <= 2);
+			Assertions.assertTrue(threads.stream().allMatch(name -> name.startsWith("smart-doc-build-")));
+		}
+		finally {
+			DocBuildContext.bind(previous);
+		}
+	}
+
+	@Test
+	void testFailuresAreAggregated() {
+		List<Integer> items = Arrays.asList(1, 2, 3, 4);
+		RuntimeException exception = Assertions.assertThrows(RuntimeException.class,
+				() -> ParallelUtil.forEach(items, 2, "test", i -> {
+					if (i % 2 == 0) {
+						throw new IllegalStateException("failed " + i);
+					}
+				}));
+		Assertions.assertTrue(exception.getMessage().startsWith("test failed for 2 of 4 items"));
+		Assertions.assertEquals(1, exception.getSuppressed().length);
+	}
+
+}
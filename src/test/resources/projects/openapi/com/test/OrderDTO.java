@@ -0,0 +1,10 @@
+package com.test;
+
+public class OrderDTO {
+
+	/**
+	 * no
+	 */
+	private String no;
+
+}
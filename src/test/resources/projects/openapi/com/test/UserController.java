@@ -0,0 +1,31 @@
+package com.test;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @tag search
+ */
+@RestController
+public class UserController {
+
+	/**
+	 * search users
+	 */
+	@GetMapping("/users")
+	public List<UserDTO> search() {
+		return null;
+	}
+
+	/**
+	 * search the orders of a user
+	 * @param userId user id
+	 */
+	@GetMapping("/users/orders")
+	public List<OrderDTO> search(String userId) {
+		return null;
+	}
+
+}
@@ -0,0 +1,10 @@
+package com.test;
+
+public class UserDTO {
+
+	/**
+	 * name
+	 */
+	private String name;
+
+}
@@ -0,0 +1,10 @@
+package com.test;
+
+public class UserQuery {
+
+	/**
+	 * keyword
+	 */
+	private String keyword;
+
+}
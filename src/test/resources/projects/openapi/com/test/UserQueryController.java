@@ -0,0 +1,23 @@
+package com.test;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @tag search
+ */
+@RestController
+public class UserQueryController {
+
+	/**
+	 * search users by a query
+	 */
+	@PostMapping("/users")
+	public List<UserDTO> search(@RequestBody UserQuery query) {
+		return null;
+	}
+
+}
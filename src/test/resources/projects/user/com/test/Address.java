@@ -0,0 +1,10 @@
+package com.test;
+
+public class Address {
+
+	/**
+	 * city
+	 */
+	private String city;
+
+}
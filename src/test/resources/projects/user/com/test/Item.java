@@ -0,0 +1,10 @@
+package com.test;
+
+public class Item {
+
+	/**
+	 * sku
+	 */
+	private String sku;
+
+}
@@ -0,0 +1,17 @@
+package com.test;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class OrderController {
+
+	/**
+	 * get order
+	 */
+	@GetMapping("/order")
+	public OrderDTO get() {
+		return null;
+	}
+
+}
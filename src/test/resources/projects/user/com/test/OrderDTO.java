@@ -0,0 +1,17 @@
+package com.test;
+
+import java.util.List;
+
+public class OrderDTO {
+
+	/**
+	 * no
+	 */
+	private String no;
+
+	/**
+	 * items
+	 */
+	private List<Item> items;
+
+}
@@ -0,0 +1,15 @@
+package com.test;
+
+public class Result<T> {
+
+	/**
+	 * code
+	 */
+	private int code;
+
+	/**
+	 * data
+	 */
+	private T data;
+
+}
@@ -0,0 +1,17 @@
+package com.test;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class UserController {
+
+	/**
+	 * get user
+	 */
+	@GetMapping("/user")
+	public Result<UserDTO> get(UserQuery query) {
+		return null;
+	}
+
+}
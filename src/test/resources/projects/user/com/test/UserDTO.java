@@ -0,0 +1,29 @@
+package com.test;
+
+public class UserDTO {
+
+	/**
+	 * name
+	 */
+	private String name;
+
+	/**
+	 * address
+	 */
+	private Address address;
+
+	/**
+	 * tag
+	 */
+	private Tag tag;
+
+	public static class Tag {
+
+		/**
+		 * label
+		 */
+		private String label;
+
+	}
+
+}
@@ -0,0 +1,5 @@
+package com.test;
+
+public class UserService {
+
+}